@@ -35,11 +35,16 @@ import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_EXCLUS
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_ONLY_CLASSIC_VERSION_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_ONLY_CLASSIC_VERSION_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_SUB_CATEGORY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_CACHE_DIRECTORY_PROPERTY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_HEAP_BUDGET_PROPERTY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_PATCH_FILE_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_PRINT_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_BUILD_PLUGIN_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_BUILD_PLUGIN_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SUB_CATEGORY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_XML_ENGINE_DEFAULT;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_XML_ENGINE_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENRAL_SKIP_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.LICENSE_DEFINITION_PATH_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.LICENSE_DEFINITION_PROPERTY;
@@ -66,6 +71,7 @@ import static bje.buildtools.dependency.explorer.util.Constants.UPDATE_PATCH_SEV
 import static bje.buildtools.dependency.explorer.util.Constants.UPDATE_SKIP_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.UPDATE_SUB_CATEGORY;
 import static org.sonar.api.PropertyType.BOOLEAN;
+import static org.sonar.api.PropertyType.INTEGER;
 import static org.sonar.api.PropertyType.STRING;
 import static org.sonar.api.config.PropertyDefinition.ConfigScope.PROJECT;
 import static org.sonar.api.rule.Severity.BLOCKER;
@@ -97,6 +103,28 @@ public class ExplorerConfiguration {
                         .subCategory(GENERAL_SUB_CATEGORY).name("Print")
                         .description("Print details during project analysis.")
                         .defaultValue(Boolean.toString(GENERAL_SKIP_DEFAULT)).type(BOOLEAN).build(),
+                // GENERAL - CACHE
+                PropertyDefinition.builder(GENERAL_CACHE_DIRECTORY_PROPERTY).onConfigScopes(PROJECT)
+                        .subCategory(GENERAL_SUB_CATEGORY).name("Cache directory")
+                        .description("Directory where parsed POM are kept between analyses, disabled when empty.")
+                        .type(STRING).build(),
+                // GENERAL - HEAP BUDGET
+                PropertyDefinition.builder(GENERAL_HEAP_BUDGET_PROPERTY).onConfigScopes(PROJECT)
+                        .subCategory(GENERAL_SUB_CATEGORY).name("Heap budget")
+                        .description("Used heap in megabytes above which finished module reports are kept on disk "
+                                + "until the end of the analysis, disabled when empty.")
+                        .type(INTEGER).build(),
+                // GENERAL - PATCH
+                PropertyDefinition.builder(GENERAL_PATCH_FILE_PROPERTY).onConfigScopes(PROJECT)
+                        .subCategory(GENERAL_SUB_CATEGORY).name("Patch file")
+                        .description("File where version bumps are written as a unified diff, disabled when empty.")
+                        .type(STRING).build(),
+                // GENERAL - XML ENGINE
+                PropertyDefinition.builder(GENERAL_XML_ENGINE_PROPERTY).onConfigScopes(PROJECT)
+                        .subCategory(GENERAL_SUB_CATEGORY).name("XML engine")
+                        .description("Engine used to read POM, reports and license definitions.")
+                        .defaultValue(GENERAL_XML_ENGINE_DEFAULT).type(STRING).options(Arrays.asList("SAX", "STAX"))
+                        .build(),
                 // LICENSE - SKIP
                 PropertyDefinition.builder(LICENSE_SKIP_PROPERTY).onConfigScopes(PROJECT)
                         .subCategory(LICENSE_SUB_CATEGORY).name("Skip license rule").description("Skip licenses check.")
@@ -187,7 +215,8 @@ public class ExplorerConfiguration {
                                 """
                                         Exclusions list of dependencies to be reported as an issue. The list is composed of filter separated by comma. \
                                         Each filter is in the form of [groupId]:[artifactId]:[version] where each pattern segment is optional and supports full\
-                                         and partial wildcards. Empty pattern segment is treated as an implicit wildcard. Only one wildcard by part.""")
+                                         and partial wildcards. Empty pattern segment is treated as an implicit wildcard. Only one wildcard by part. \
+                                        A filter matching every version of an artifact skips it from the whole analysis.""")
                         .defaultValue("").type(STRING).build(),
                 // FILTERING - ONLY_CLASSIC
                 PropertyDefinition.builder(FILTERING_ONLY_CLASSIC_VERSION_PROPERTY).onConfigScopes(PROJECT)
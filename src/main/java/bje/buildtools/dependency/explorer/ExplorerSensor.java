@@ -25,13 +25,21 @@ package bje.buildtools.dependency.explorer;
 
 import static bje.buildtools.dependency.explorer.util.Constants.C_REPOSITORY_KEY;
 import static bje.buildtools.dependency.explorer.util.Constants.C_SENSOR_NAME;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_HEAP_BUDGET_PROPERTY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_PATCH_FILE_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_PRINT_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_PRINT_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_DEFAULT;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_XML_ENGINE_DEFAULT;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_XML_ENGINE_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENRAL_SKIP_PROPERTY;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -52,16 +60,21 @@ import org.sonar.api.rule.RuleKey;
 import org.sonar.api.scanner.sensor.ProjectSensor;
 import org.xml.sax.SAXException;
 
-import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.data.Coordinates;
+import bje.buildtools.dependency.explorer.data.POMType;
 import bje.buildtools.dependency.explorer.data.ProtoIssue;
 import bje.buildtools.dependency.explorer.data.Result;
 import bje.buildtools.dependency.explorer.license.LicenseModel;
 import bje.buildtools.dependency.explorer.license.LicenseParser;
 import bje.buildtools.dependency.explorer.maven.MavenCrawler;
+import bje.buildtools.dependency.explorer.maven.PomFactory;
 import bje.buildtools.dependency.explorer.rules.ProjectParser;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 import bje.buildtools.dependency.explorer.util.JsonReportGenerator;
 import bje.buildtools.dependency.explorer.util.LoggerAppendable;
+import bje.buildtools.dependency.explorer.util.PatchGenerator;
+import bje.toolbox.xml.XMLParsers;
 
 public class ExplorerSensor implements ProjectSensor {
     @FunctionalInterface
@@ -117,6 +130,51 @@ public class ExplorerSensor implements ProjectSensor {
         }
     }
 
+    // a patch that cannot be written is only logged, the issues and the report are still delivered
+    private static void writePatch(final Configuration configuration, final Path aBaseDirectory,
+            final PatchGenerator patch) {
+        final var file = configuration.get(GENERAL_PATCH_FILE_PROPERTY).filter(s -> !s.isBlank()).orElse(null);
+        if (file == null || aBaseDirectory == null) {
+            return;
+        }
+        try (var out = Files.newBufferedWriter(Path.of(file), StandardCharsets.UTF_8)) {
+            patch.write(aBaseDirectory, out);
+            LOGGER.info("Version bumps written in {}", file);
+        } catch (final IOException | InvalidPathException e) {
+            LOGGER.warn("Cannot write version bumps in {}", file, e);
+        }
+    }
+
+    // each pom is reported as soon as it is resolved, only the main one stays reachable until the end
+    private static boolean scan(final Configuration configuration, final InputFileCreator aFileCreator,
+            final IssueCreator anIssueCreator, final boolean print, final JsonReportGenerator generator)
+            throws IOException, SAXException, ParserConfigurationException {
+        final var config = ExplorationConfiguration.of(configuration);
+        final var parser = new ProjectParser(configuration);
+        final var patch = new PatchGenerator();
+        final var base = new AtomicReference<Path>();
+        final var count = MavenCrawler.compileFiles(aFileCreator, config, pom -> {
+            if (print) {
+                try (final var a = new LoggerAppendable(LOGGER)) {
+                    pom.printTree(a);
+                }
+            }
+            if (pom.getType() == POMType.MAIN) {
+                base.set(Path.of(pom.getComponent().uri()).getParent());
+            }
+            final var results = parser.analyze(pom);
+            addIssues(anIssueCreator, print, results);
+            patch.append(results);
+            generator.append(results);
+        });
+        if (count == 0) {
+            LOGGER.warn("Can't analyse this project, no pom.xml found");
+            return false;
+        }
+        writePatch(configuration, base.get(), patch);
+        return true;
+    }
+
     private static void uploadJsonReport(final MeasureCreator<String> aCreator, final List<JSONObject> anObjectList) {
         LOGGER.trace("Upload Dependency explorer JSON-Report");
         final var arr = new JSONArray();
@@ -137,6 +195,13 @@ public class ExplorerSensor implements ProjectSensor {
             LOGGER.info("Dependency explorer - skipped");
         } else {
             LOGGER.info("Dependency explorer - Start - rev A");
+            final var engine = configuration.get(GENERAL_XML_ENGINE_PROPERTY).orElse(GENERAL_XML_ENGINE_DEFAULT);
+            try {
+                XMLParsers.setEngine(XMLParsers.Engine.valueOf(engine.trim().toUpperCase()));
+            } catch (final IllegalArgumentException e) {
+                LOGGER.warn("Unknown XML engine {}, using {}", engine, GENERAL_XML_ENGINE_DEFAULT);
+                XMLParsers.setEngine(XMLParsers.Engine.SAX);
+            }
             try {
                 final var model = LicenseParser.init(configuration);
                 LICENSE_MODEL.set(model);
@@ -144,29 +209,20 @@ public class ExplorerSensor implements ProjectSensor {
                 LOGGER.warn("Cannot instanciate license matrix", e);
             }
             final boolean print = configuration.getBoolean(GENERAL_PRINT_PROPERTY).orElse(GENERAL_PRINT_DEFAULT);
-            final var generator = new JsonReportGenerator();
-            try {
-                final var config = ExplorationConfiguration.of(configuration);
-                final var poms = MavenCrawler.compileFiles(aFileCreator, config);
-                if (poms.length == 0) {
-                    LOGGER.warn("Can't analyse this project, no pom.xml found");
+            final long budget = configuration.getLong(GENERAL_HEAP_BUDGET_PROPERTY).map(m -> m * 1024 * 1024)
+                    .orElse(-1L);
+            try (var generator = new JsonReportGenerator(budget)) {
+                if (!scan(configuration, aFileCreator, anIssueCreator, print, generator)) {
                     return;
                 }
-                final var parser = new ProjectParser(configuration);
-                for (final Pom pom : poms) {
-                    if (print) {
-                        try (final var a = new LoggerAppendable(LOGGER)) {
-                            pom.printTree(a);
-                        }
-                    }
-                }
-                final var results = parser.parse(poms);
-                addIssues(anIssueCreator, print, results);
-                generator.append(results);
                 uploadJsonReport(aMeasureCreator, generator.generate());
             } catch (final Exception e) {
                 LOGGER.warn("Analysis aborted due to: " + e.getMessage(), e);
+            } finally {
+                PomFactory.clear();
+                Coordinates.clear();
             }
+            FileContentCache.clear();
             LOGGER.info("Dependency explorer - Stop");
         }
     }
@@ -34,6 +34,7 @@ public abstract class AbstractCulsteredProtoIssue implements ProtoIssue {
     }
 
     protected final Pom pom;
+    private String ga;
     private final Getter getterArfifact;
     private final Getter getterGroup;
 
@@ -50,7 +51,10 @@ public abstract class AbstractCulsteredProtoIssue implements ProtoIssue {
 
     @Override
     public String getGA() {
-        return getterGroup.get() + ":" + getterArfifact.get();
+        if (ga == null) {
+            ga = Coordinates.key(Coordinates.id(getterGroup.get(), getterArfifact.get()));
+        }
+        return ga;
     }
 
     @Override
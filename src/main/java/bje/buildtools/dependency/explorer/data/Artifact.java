@@ -36,6 +36,8 @@ public class Artifact implements Comparable<Artifact> {
     private static final Logger LOGGER = LoggerFactory.getLogger(Artifact.class);
     protected final String artifactId;
     protected String effectiveVersion;
+    // coordinate id, resolved on first use
+    private int ga = -1;
     protected final String groupId;
     protected String propertyName;
     protected FiledRange range;
@@ -51,9 +53,12 @@ public class Artifact implements Comparable<Artifact> {
 
     @Override
     public int compareTo(final Artifact o) {
-        var i = getGroupId().compareTo(o.getGroupId());
-        if (i == 0) {
-            i = getArtifactId().compareTo(o.getArtifactId());
+        var i = 0;
+        if (getGAId() != o.getGAId()) {
+            i = getGroupId().compareTo(o.getGroupId());
+            if (i == 0) {
+                i = getArtifactId().compareTo(o.getArtifactId());
+            }
         }
         if (i == 0) {
             i = Utils.compare(getEffectiveVersion(), o.getEffectiveVersion());
@@ -94,6 +99,13 @@ public class Artifact implements Comparable<Artifact> {
         return effectiveVersion;
     }
 
+    public int getGAId() {
+        if (ga < 0) {
+            ga = Coordinates.id(groupId, artifactId);
+        }
+        return ga;
+    }
+
     public String getGroupId() {
         return groupId;
     }
@@ -146,7 +158,7 @@ public class Artifact implements Comparable<Artifact> {
     }
 
     public String toGA() {
-        return groupId + ":" + artifactId;
+        return Coordinates.key(getGAId());
     }
 
     public String toGAV() {
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Scan-wide symbol table of groupId:artifactId coordinates, each one gets a dense int id and a shared key string
+public final class Coordinates {
+    private static final Map<String, Integer> BY_KEY = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Integer>> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] keys = new String[1024];
+    private static int size;
+
+    private static synchronized int add(final Map<String, Integer> someArtifacts, final String aGroupId,
+            final String anArtifactId) {
+        final var existing = someArtifacts.get(anArtifactId);
+        if (existing != null) {
+            return existing;
+        }
+        final var key = aGroupId + ":" + anArtifactId;
+        final var id = size;
+        if (id == keys.length) {
+            keys = Arrays.copyOf(keys, id * 2);
+        }
+        keys[id] = key;
+        size++;
+        BY_KEY.put(key, id);
+        someArtifacts.put(anArtifactId, id);
+        return id;
+    }
+
+    // ids are only valid within one scan, nothing holding one may outlive it
+    public static synchronized void clear() {
+        BY_KEY.clear();
+        IDS.clear();
+        keys = new String[1024];
+        size = 0;
+    }
+
+    public static int id(final String aGA) {
+        final var id = BY_KEY.get(aGA);
+        if (id != null) {
+            return id;
+        }
+        final var i = aGA.indexOf(':');
+        return i < 0 ? id(aGA, null) : id(aGA.substring(0, i), aGA.substring(i + 1));
+    }
+
+    // null parts are kept as "null" like the former string concatenation did
+    public static int id(final String aGroupId, final String anArtifactId) {
+        final var groupId = String.valueOf(aGroupId);
+        final var artifactId = String.valueOf(anArtifactId);
+        final var artifacts = IDS.computeIfAbsent(groupId, g -> new ConcurrentHashMap<>());
+        final var id = artifacts.get(artifactId);
+        return id == null ? add(artifacts, groupId, artifactId) : id;
+    }
+
+    public static String key(final int anId) {
+        return keys[anId];
+    }
+
+    public static synchronized int size() {
+        return size;
+    }
+
+    private Coordinates() {
+        // block default constructor
+    }
+}
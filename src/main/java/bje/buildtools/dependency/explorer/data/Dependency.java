@@ -23,20 +23,62 @@
  */
 package bje.buildtools.dependency.explorer.data;
 
-import java.util.NavigableSet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.TreeSet;
 
 import bje.buildtools.dependency.explorer.license.LicenseDefinition;
 import bje.buildtools.dependency.explorer.util.Utils;
 
 public class Dependency extends Artifact {
+    // mutable view over the shared version list, each addition copies the list: batch with addAll or addVersions
+    private final class VersionSet extends AbstractSet<Version> {
+        @Override
+        public boolean add(final Version aVersion) {
+            if (versions.contains(aVersion)) {
+                return false;
+            }
+            versions = versions.with(List.of(aVersion));
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean addAll(final Collection<? extends Version> someVersions) {
+            final var before = versions;
+            versions = versions.with(new ArrayList<>(someVersions));
+            changed();
+            return versions != before;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return versions.contains(o);
+        }
+
+        @Override
+        public Iterator<Version> iterator() {
+            return versions.iterator();
+        }
+
+        @Override
+        public int size() {
+            return versions.size();
+        }
+    }
+
     private static int compareDefinitions(final Set<Dependency> a, final Set<Dependency> b) {
         final var aa = a.iterator();
         final var bb = b.iterator();
-        while (aa.hasNext() || bb.hasNext()) {
+        while (aa.hasNext() && bb.hasNext()) {
             final var i = aa.next().compareTo(bb.next());
             if (i != 0) {
                 return i;
@@ -48,14 +90,22 @@ public class Dependency extends Artifact {
         return bb.hasNext() ? -1 : 0;
     }
 
+    private static long mix(final long aHash, final long aValue) {
+        return Long.rotateLeft((aHash ^ aValue) * 0x9E3779B97F4A7C15L, 31);
+    }
+
     private final Set<Dependency> children = new TreeSet<>();
+    // same children keyed by coordinate id, nearest wins
+    private final Map<Integer, Dependency> childrenByGA = new HashMap<>();
+    private boolean hashed;
     private LicenseDefinition licenses;
     private final Set<String> packages = new TreeSet<>();
     private Dependency parent;
     private final Pom project;
     private DependencyType source = DependencyType.DEPENDENCY;
-
-    private final NavigableSet<Version> versions = new TreeSet<>();
+    // subtree hash consistent with compareTo, valid while hashed is set
+    private long structuralHash;
+    private VersionList versions = VersionList.EMPTY;
 
     public Dependency(final Pom pom, final Artifact anArtifact) {
         super(anArtifact.getGroupId(), anArtifact.getArtifactId(), anArtifact.getVersion());
@@ -67,35 +117,68 @@ public class Dependency extends Artifact {
         project = pom;
     }
 
+    // an inherited definition taken over by another pom, annotated there without touching the declaring pom
+    private Dependency(final Pom pom, final Dependency aDefinition) {
+        super(aDefinition.groupId, aDefinition.artifactId, aDefinition.version);
+        range = aDefinition.range;
+        scope = aDefinition.scope;
+        effectiveVersion = aDefinition.getEffectiveVersion();
+        propertyName = aDefinition.propertyName;
+        type = aDefinition.type;
+        licenses = aDefinition.licenses;
+        packages.addAll(aDefinition.packages);
+        project = pom;
+        source = aDefinition.source;
+        versions = aDefinition.versions;
+    }
+
     public void addDependency(final Dependency node) {
         if (node != null) {
-            Dependency toDelete = null;
-            final var ev = new Version(node.getEffectiveVersion());
-            for (final Dependency def : children) {
-                if (def.isSameArtefact(node)) {
-                    if (ev.compareTo(new Version(def.getEffectiveVersion())) <= 0) {
-                        return;
-                    }
-                    toDelete = def;
-                    break;
+            final var existing = childrenByGA.get(node.getGAId());
+            if (existing != null) {
+                if (Version.of(node.getEffectiveVersion()).compareTo(Version.of(existing.getEffectiveVersion())) <= 0) {
+                    return;
                 }
-            }
-            if (toDelete != null) {
-                children.remove(toDelete);
+                children.remove(existing);
             }
             node.setParent(this);
             children.add(node);
+            childrenByGA.put(node.getGAId(), node);
+            changed();
+        }
+    }
+
+    public void addVersions(final Collection<String> someVersions) {
+        final var list = new ArrayList<Version>(someVersions.size());
+        for (final String s : someVersions) {
+            list.add(Version.of(s));
+        }
+        versions = versions.with(list);
+        changed();
+    }
+
+    // resets the cached hash of this node and of its ancestors
+    private void changed() {
+        for (var d = this; d != null; d = d.parent) {
+            d.hashed = false;
         }
     }
 
     @Override
     public int compareTo(final Artifact o) {
+        if (o == this) {
+            return 0;
+        }
         var i = super.compareTo(o);
         if (i != 0) {
             return i;
         }
         if (o instanceof final Dependency d) {
             i = source.compareTo(d.source);
+            if (i == 0) {
+                // different subtrees are ordered by their hash, the full walk only confirms equal ones
+                i = Long.compareUnsigned(getStructuralHash(), d.getStructuralHash());
+            }
             if (i == 0) {
                 i = compareDefinitions(children, d.children);
             }
@@ -109,8 +192,14 @@ public class Dependency extends Artifact {
         return i;
     }
 
+    Dependency copy(final Pom aPom) {
+        return new Dependency(aPom, this);
+    }
+
     public void declarePackage(final String s) {
-        packages.add(s);
+        if (packages.add(s)) {
+            changed();
+        }
     }
 
     @Override
@@ -119,13 +208,13 @@ public class Dependency extends Artifact {
     }
 
     public Set<Dependency> getChildren() {
-        return children;
+        return Collections.unmodifiableSet(children);
     }
 
     @Override
     public String getEffectiveVersion() {
         if (effectiveVersion == null && version != null) {
-            if (version.startsWith("${")) {
+            if (version.contains("${")) {
                 return project.resolveProperty(version);
             }
             return version;
@@ -172,24 +261,47 @@ public class Dependency extends Artifact {
         return propertyName;
     }
 
+    Pom getProject() {
+        return project;
+    }
+
     public DependencyType getSource() {
         return source;
     }
 
-    public SortedSet<Version> getUpdatesVersions() {
-        return versions.tailSet(new Version(getEffectiveVersion()));
+    public long getStructuralHash() {
+        if (!hashed) {
+            var h = mix(toGA().hashCode(), Objects.hashCode(getEffectiveVersion()));
+            h = mix(h, source.ordinal());
+            for (final Dependency child : children) {
+                h = mix(h, child.getStructuralHash());
+            }
+            for (final String p : packages) {
+                h = mix(h, p.hashCode());
+            }
+            for (final Version v : versions) {
+                h = mix(h, v.getHead());
+            }
+            structuralHash = h;
+            hashed = true;
+        }
+        return structuralHash;
+    }
+
+    public VersionList getUpdatesVersions() {
+        return versions.tailList(Version.of(getEffectiveVersion()));
     }
 
     @Override
     public String getVersion() {
-        if (version != null && version.startsWith("${")) {
+        if (version != null && version.contains("${")) {
             return getEffectiveVersion();
         }
         return version;
     }
 
-    public NavigableSet<Version> getVersions() {
-        return versions;
+    public Set<Version> getVersions() {
+        return new VersionSet();
     }
 
     @Override
@@ -197,10 +309,6 @@ public class Dependency extends Artifact {
         return super.hashCode();
     }
 
-    private boolean isSameArtefact(final Dependency node) {
-        return Objects.equals(groupId, node.groupId) && Objects.equals(artifactId, node.artifactId);
-    }
-
     private void printLicense(final StringBuilder sb) {
         if (licenses != null && !licenses.getComposition().isEmpty()) {
             sb.append(" [");
@@ -229,6 +337,12 @@ public class Dependency extends Artifact {
         }
     }
 
+    @Override
+    public void setEffectiveVersion(final String property) {
+        super.setEffectiveVersion(property);
+        changed();
+    }
+
     public void setLicenses(final LicenseDefinition l) {
         if (licenses == null || licenses.getComposition().isEmpty()) {
             licenses = l;
@@ -241,16 +355,11 @@ public class Dependency extends Artifact {
 
     public void setSource(final DependencyType dependencyManagement) {
         source = dependencyManagement;
+        changed();
     }
 
     public String toGAeV() {
-        final var sb = new StringBuilder(512);
-        sb.append(groupId);
-        sb.append(":");
-        sb.append(artifactId);
-        sb.append(":");
-        sb.append(getEffectiveVersion());
-        return sb.toString();
+        return toGA() + ":" + getEffectiveVersion();
     }
 
     public String toGAPeV() {
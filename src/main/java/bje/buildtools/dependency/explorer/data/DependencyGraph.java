@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import java.util.Arrays;
+
+// Immutable flat view of a dependency tree: nodes numbered in pre-order, children stored in compressed sparse rows.
+public final class DependencyGraph {
+
+    private static int count(final Dependency aRoot) {
+        var n = 1;
+        for (final Dependency child : aRoot.getChildren()) {
+            n += count(child);
+        }
+        return n;
+    }
+
+    public static DependencyGraph of(final Dependency aRoot) {
+        return new DependencyGraph(aRoot, count(aRoot));
+    }
+
+    // child node ids, the children of a node are childIds[childStart[n] .. childStart[n + 1])
+    private final int[] childIds;
+    private final int[] childStart;
+    private final int[] gaIds;
+    private final Dependency[] nodes;
+
+    private DependencyGraph(final Dependency aRoot, final int aSize) {
+        nodes = new Dependency[aSize];
+        gaIds = new int[aSize];
+        childStart = new int[aSize + 1];
+        childIds = new int[aSize - 1];
+        final var parents = new int[aSize];
+        fill(aRoot, -1, 0, parents);
+        // children are counted per parent, then placed in pre-order which keeps the sorted order
+        for (var n = 1; n < aSize; n++) {
+            childStart[parents[n] + 1]++;
+        }
+        for (var n = 0; n < aSize; n++) {
+            childStart[n + 1] += childStart[n];
+        }
+        final var next = Arrays.copyOf(childStart, aSize);
+        for (var n = 1; n < aSize; n++) {
+            childIds[next[parents[n]]++] = n;
+        }
+    }
+
+    // node ids in breadth first order, root first
+    public int[] breadthFirst() {
+        final var order = new int[nodes.length];
+        var size = 1;
+        for (var i = 0; i < size; i++) {
+            final var n = order[i];
+            for (var k = childStart[n]; k < childStart[n + 1]; k++) {
+                order[size++] = childIds[k];
+            }
+        }
+        return order;
+    }
+
+    private int fill(final Dependency aNode, final int aParent, final int anId, final int[] someParents) {
+        nodes[anId] = aNode;
+        gaIds[anId] = aNode.getGAId();
+        someParents[anId] = aParent;
+        var next = anId + 1;
+        for (final Dependency child : aNode.getChildren()) {
+            next = fill(child, anId, next, someParents);
+        }
+        return next;
+    }
+
+    public int getChild(final int anIndex) {
+        return childIds[anIndex];
+    }
+
+    public int getChildStart(final int aNode) {
+        return childStart[aNode];
+    }
+
+    public int getChildStop(final int aNode) {
+        return childStart[aNode + 1];
+    }
+
+    public Dependency getDependency(final int aNode) {
+        return nodes[aNode];
+    }
+
+    public int getGAId(final int aNode) {
+        return gaIds[aNode];
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+}
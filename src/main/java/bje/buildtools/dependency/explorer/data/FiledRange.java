@@ -28,23 +28,27 @@ import java.util.Objects;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.TextRange;
 
+import bje.toolbox.xml.Data;
 import bje.toolbox.xml.Range;
 
 public class FiledRange {
+    // the location is only materialized when the range is used
+    private final Data data;
     private final InputFile file;
-    private final Range range;
-    private final String text;
 
-    public FiledRange(final InputFile aFile, final Range aRange, final String aText) {
+    public FiledRange(final InputFile aFile, final Data aData) {
         file = aFile;
-        range = aRange;
-        text = aText;
+        data = aData;
+    }
+
+    public FiledRange(final InputFile aFile, final Range aRange, final String aText) {
+        this(aFile, new Data(aText, aRange));
     }
 
     @Override
     public boolean equals(final Object o) {
         if (o instanceof final FiledRange f) {
-            return Objects.equals(file, f.file) && Objects.equals(range, f.range) && Objects.equals(text, f.text);
+            return Objects.equals(file, f.file) && Objects.equals(data, f.data);
         }
         return false;
     }
@@ -54,20 +58,21 @@ public class FiledRange {
     }
 
     public Range getRange() {
-        return range;
+        return data == null ? null : data.getRange();
     }
 
     public String getText() {
-        return text;
+        return data == null ? null : data.getText();
     }
 
     public TextRange getTextRange() {
+        final var range = getRange();
         return file.newRange(file.newPointer(range.getLineStart(), range.getPositionStart() - 1),
                 file.newPointer(range.getLineStop(), range.getPositionStop() - 1));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(file, range, text);
+        return Objects.hash(file, data);
     }
 }
@@ -24,5 +24,5 @@
 package bje.buildtools.dependency.explorer.data;
 
 public enum POMType {
-    PARENT, MAIN, MODULE;
+    PARENT, MAIN, MODULE, BOM;
 }
@@ -26,14 +26,15 @@ package bje.buildtools.dependency.explorer.data;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.TextRange;
@@ -42,6 +43,8 @@ import bje.buildtools.dependency.explorer.license.LicenseDefinition;
 import bje.buildtools.dependency.explorer.maven.PomParser.FirstParse;
 
 public class Pom implements Comparable<Pom> {
+    // scan-wide change counter, a pom records the value of its last structural change
+    private static final AtomicLong CHANGES = new AtomicLong();
 
     private static void print(final Appendable out, final int deep, final Dependency root, final String prefix,
             final String level) throws IOException {
@@ -61,20 +64,42 @@ public class Pom implements Comparable<Pom> {
         }
     }
 
+    // sorted view by groupId:artifactId
+    private static Map<String, Dependency> sorted(final Map<Integer, Dependency> aMap) {
+        final Map<String, Dependency> result = new TreeMap<>();
+        for (final Dependency def : aMap.values()) {
+            result.put(def.toGA(), def);
+        }
+        return result;
+    }
+
     private final InputFile component;
-    private final Map<String, Dependency> dependencyMap = new TreeMap<>();
+    // keyed by coordinate id
+    private final Map<Integer, Dependency> dependencyMap = new HashMap<>();
     private Map<String, List<Dependency>> doublons;
     private final Map<Scope, List<Artifact>> effectiveArtifacts = new EnumMap<>(Scope.class);
+    // coordinate id -> getAnyDependency result merged over parents and imports, built once resolved
+    private Map<Integer, Dependency> effectiveIndex;
+    private long indexed;
+    private long lastChange;
+    // counter value of the last walk over the parents and imports, and the latest change it found
+    private long checked = -1;
+    private long latestChange;
+    // flat view of the tree, rebuilt with the doublons
+    private DependencyGraph graph;
     private final Map<Scope, List<Artifact>> undeclaredArtifacts = new EnumMap<>(Scope.class);
     private final Map<Scope, List<Artifact>> unusedArtifacts = new EnumMap<>(Scope.class);
     private final List<String> modules = new ArrayList<>();
     private String name;
     private Pom parent;
-    private final Map<String, Dependency> pluginMap = new TreeMap<>();
+    private final Map<Integer, Dependency> pluginMap = new HashMap<>();
+    private boolean resolved;
     private final Map<String, FiledRange> propertyRange = new TreeMap<>();
+    private final PropertyResolver properties = new PropertyResolver(this);
     private Dependency root;
     private final POMType type;
     private final Map<Artifact, List<String>> incompatibility = new HashMap<>();
+    private final List<Pom> imports = new ArrayList<>();
 
     public Pom(final InputFile aComponent, final Pom aParent, final POMType aType)
             throws IllegalStateException {
@@ -101,20 +126,23 @@ public class Pom implements Comparable<Pom> {
         default -> null;
         };
         if (map != null) {
-            var def = map.get(artifact.toGA());
+            var def = map.get(artifact.getGAId());
             if (def == null || def.getVersion() == null) {
                 if (!source.isManaged()) {
-                    def = getAnyDependency(artifact.toGA());
+                    def = getAnyDependency(artifact.getGAId());
                 }
                 if (def == null) {
                     def = new Dependency(this, artifact);
                     def.setSource(source);
+                } else if (def.getProject() != this) {
+                    // the declaring pom may be reported already, this pom annotates its own copy
+                    def = def.copy(this);
+                }
+                if (map.putIfAbsent(def.getGAId(), def) == null) {
+                    changed();
                 }
-                map.putIfAbsent(def.toGA(), def);
-            }
-            for (final String s : versions) {
-                def.getVersions().add(new Version(s));
             }
+            def.addVersions(versions);
             if (artifact.getVersion() != null && artifact.getVersion().startsWith("${")) {
                 def.setPropertyName(artifact.getVersion());
             }
@@ -128,6 +156,11 @@ public class Pom implements Comparable<Pom> {
         list.add(artifact);
     }
 
+    public void addImport(final Pom bom) {
+        imports.add(bom);
+        changed();
+    }
+
     public void addModule(final String module) {
         modules.add(module);
     }
@@ -135,11 +168,15 @@ public class Pom implements Comparable<Pom> {
     public Dependency addPlugin(final Artifact anArtifact, final boolean management) {
         final var def = new Dependency(this, anArtifact);
         def.setSource(management ? DependencyType.PLUGIN_MANAGEMENT : DependencyType.PLUGIN);
-        pluginMap.putIfAbsent(def.toGA(), def);
+        if (pluginMap.putIfAbsent(def.getGAId(), def) == null) {
+            changed();
+        }
         return def;
     }
 
     public void addPropertyLocation(final String substring, final FiledRange data) {
+        properties.clear();
+        changed();
         if (substring.startsWith("${")) {
             propertyRange.putIfAbsent(substring, data);
         } else {
@@ -161,6 +198,40 @@ public class Pom implements Comparable<Pom> {
         incompatibility.put(def, versions);
     }
 
+    // null while this pom, a parent or an import is not resolved yet
+    private Map<Integer, Dependency> buildIndex() {
+        final Set<Integer> keys = new HashSet<>(dependencyMap.keySet());
+        keys.addAll(pluginMap.keySet());
+        keys.add(root.getGAId());
+        if (parent != null) {
+            final var index = parent.getEffectiveIndex();
+            if (index == null) {
+                return null;
+            }
+            keys.addAll(index.keySet());
+        }
+        for (final Pom bom : imports) {
+            final var index = bom.getEffectiveIndex();
+            if (index == null) {
+                return null;
+            }
+            keys.addAll(index.keySet());
+        }
+        // parents and imports answer from their own index, so each key costs a few map reads
+        final Map<Integer, Dependency> index = new HashMap<>(keys.size() * 2);
+        for (final Integer ga : keys) {
+            final var def = lookup(ga);
+            if (def != null) {
+                index.put(ga, def);
+            }
+        }
+        return index;
+    }
+
+    private void changed() {
+        lastChange = CHANGES.incrementAndGet();
+    }
+
     @Override
     public int compareTo(final Pom o) {
         return name.compareTo(o.name);
@@ -177,7 +248,7 @@ public class Pom implements Comparable<Pom> {
     public void fill(final Artifact fp) {
         name = fp.getArtifactId();
         var version = fp.getVersion();
-        if (version != null && version.startsWith("${")) {
+        if (version != null && version.contains("${")) {
             version = resolveProperty(fp.getVersion());
         }
         if (version == null) {
@@ -188,32 +259,28 @@ public class Pom implements Comparable<Pom> {
             group = parent.getRoot().getGroupId();
         }
         root = new Dependency(this, new Artifact(group, name, version));
+        properties.clear();
+        changed();
     }
 
     public void fill(final FirstParse fp) {
         fill(new Artifact(fp.getGroupId(), fp.getArtifactId(), fp.getVersion()));
     }
 
-    public Dependency getAnyDependency(final String ga) {
-        if (ga.equals(root.toGA())) {
-            return root;
-        }
-        var def = dependencyMap.get(ga);
-        if (def == null) {
-            def = pluginMap.get(ga);
-        }
-        if (parent != null && (def == null || def.getVersion() == null)) {
-            final var def2 = parent.getAnyDependency(ga);
-            if (def2 != null) {
-                def = def2;
-            }
+    public Dependency getAnyDependency(final int ga) {
+        final var index = getEffectiveIndex();
+        if (index != null) {
+            return index.get(ga);
         }
-        return def;
+        return lookup(ga);
+    }
+
+    public Dependency getAnyDependency(final String ga) {
+        return getAnyDependency(Coordinates.id(ga));
     }
 
     public Dependency getAnyDependency(final String groupId, final String artifactId) {
-        final var ga = groupId + ":" + artifactId;
-        return getAnyDependency(ga);
+        return getAnyDependency(Coordinates.id(groupId, artifactId));
     }
 
     public InputFile getComponent() {
@@ -228,16 +295,57 @@ public class Pom implements Comparable<Pom> {
         return effectiveArtifacts;
     }
 
+    private Map<Integer, Dependency> getEffectiveIndex() {
+        if (!resolved) {
+            return null;
+        }
+        final var last = getLastChange();
+        if (effectiveIndex == null || last > indexed) {
+            effectiveIndex = buildIndex();
+            indexed = last;
+        }
+        return effectiveIndex;
+    }
+
+    public DependencyGraph getGraph() {
+        if (graph == null) {
+            graph = DependencyGraph.of(root);
+        }
+        return graph;
+    }
+
+    public List<Pom> getImports() {
+        return imports;
+    }
+
+    // latest structural change of this pom, its parents and its imports; walked again only when the scan-wide
+    // counter moved since the previous walk, so a lookup costs a single read once the poms stop changing
+    private long getLastChange() {
+        final var now = CHANGES.get();
+        if (checked != now) {
+            var last = lastChange;
+            if (parent != null) {
+                last = Math.max(last, parent.getLastChange());
+            }
+            for (final Pom bom : imports) {
+                last = Math.max(last, bom.getLastChange());
+            }
+            latestChange = last;
+            checked = now;
+        }
+        return latestChange;
+    }
+
     private LicenseDefinition getLicenses() {
         return root.getLicenses();
     }
 
     public Map<String, Dependency> getMapDependencies() {
-        return dependencyMap;
+        return sorted(dependencyMap);
     }
 
     public Map<String, Dependency> getMapPlugins() {
-        return pluginMap;
+        return sorted(pluginMap);
     }
 
     public List<String> getModules() {
@@ -248,25 +356,29 @@ public class Pom implements Comparable<Pom> {
         return name;
     }
 
+    public Pom getParent() {
+        return parent;
+    }
+
     public Map<String, FiledRange> getPropertiesLocation() {
         return propertyRange;
     }
 
+    String getRawProperty(final String name) {
+        final var dt = propertyRange.get("${" + name + "}");
+        if (dt != null) {
+            return dt.getText();
+        }
+        return parent == null ? null : parent.getRawProperty(name);
+    }
+
     public Dependency getRoot() {
         return root;
     }
 
     private TextRange getTextRange(final Dependency def) {
-        FiledRange range = null;
-        final var prop = def.getPropertyName();
-        if (prop != null) {
-            final var d = propertyRange.get(prop);
-            if (d == null) {
-                range = def.range;
-            } else {
-                range = d;
-            }
-        } else {
+        var range = getVersionLocation(def);
+        if (range == null || !component.equals(range.getFile())) {
             range = def.range;
         }
         if (range != null && range.getFile().equals(component)) {
@@ -299,21 +411,60 @@ public class Pom implements Comparable<Pom> {
         return incompatibility;
     }
 
+    // where the version of the dependency is written: the property declaration when it uses one, looked up through
+    // the parents like its value; null when that property is declared out of reach
+    public FiledRange getVersionLocation(final Dependency def) {
+        final var prop = def.getPropertyName();
+        if (prop == null) {
+            return def.range;
+        }
+        final var key = prop.startsWith("${") ? prop : "${" + prop + "}";
+        for (var p = this; p != null; p = p.parent) {
+            final var d = p.propertyRange.get(key);
+            if (d != null) {
+                return d;
+            }
+        }
+        return null;
+    }
+
     @Override
     public int hashCode() {
         return name.hashCode();
     }
 
+    private Dependency lookup(final int ga) {
+        if (ga == root.getGAId()) {
+            return root;
+        }
+        var def = dependencyMap.get(ga);
+        if (def == null) {
+            def = pluginMap.get(ga);
+        }
+        if (parent != null && (def == null || def.getVersion() == null)) {
+            final var def2 = parent.getAnyDependency(ga);
+            if (def2 != null) {
+                def = def2;
+            }
+        }
+        for (var i = 0; i < imports.size() && (def == null || def.getVersion() == null); ++i) {
+            final var def2 = imports.get(i).getAnyDependency(ga);
+            if (def2 != null) {
+                def = def2;
+            }
+        }
+        return def;
+    }
+
+    public void markResolved() {
+        resolved = true;
+    }
+
     private Map<String, List<Dependency>> prepareMap() {
         final Map<String, List<Dependency>> doublonsMap = new TreeMap<>();
-        final Deque<Dependency> stack = new LinkedList<>();
-        stack.push(root);
-        while (!stack.isEmpty()) {
-            final var m = stack.poll();
-            final var list = doublonsMap.computeIfAbsent(m.getGroupId() + ":" + m.getArtifactId(),
-                    k -> new ArrayList<>());
-            list.add(m);
-            stack.addAll(m.getChildren());
+        for (final int n : graph.breadthFirst()) {
+            doublonsMap.computeIfAbsent(Coordinates.key(graph.getGAId(n)), k -> new ArrayList<>())
+                    .add(graph.getDependency(n));
         }
         return doublonsMap;
     }
@@ -327,32 +478,27 @@ public class Pom implements Comparable<Pom> {
     }
 
     public String resolveProperty(final String version) {
-        if ("${project.version}".equals(version)) {
-            return root.getVersion();
-        }
-        final var dt = propertyRange.get(version);
-        if (dt != null) {
-            return dt.getText();
-        }
-        if (parent != null) {
-            return parent.resolveProperty(version);
-        }
-        return null;
+        return properties.resolve(version);
     }
 
     public void setParent(final Pom p) {
         parent = p;
+        properties.clear();
+        changed();
     }
 
     public void updateRoot() {
         if (parent != null && root.getLicenses() == null) {
             root.setLicenses(parent.getLicenses());
         }
+        graph = DependencyGraph.of(root);
         doublons = prepareMap();
     }
 
     public void updateRoot(final Dependency defMain) {
         root = defMain;
+        properties.clear();
+        changed();
         updateRoot();
     }
 
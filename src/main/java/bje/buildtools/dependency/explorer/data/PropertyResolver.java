@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PropertyResolver {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PropertyResolver.class);
+    private static final String START = "${";
+
+    private static int findEnd(final String text, final int from) {
+        var depth = 1;
+        for (var i = from; i < text.length(); ++i) {
+            final var c = text.charAt(i);
+            if (c == '{' && text.charAt(i - 1) == '$') {
+                ++depth;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final Map<String, Optional<String>> expressions = new HashMap<>();
+    private final Map<String, Optional<String>> names = new HashMap<>();
+    private final Pom pom;
+
+    public PropertyResolver(final Pom aPom) {
+        pom = aPom;
+    }
+
+    private String builtin(final String name) {
+        return switch (name) {
+        case "project.version", "pom.version" -> pom.getRoot().getVersion();
+        case "project.groupId", "pom.groupId" -> pom.getRoot().getGroupId();
+        case "project.artifactId", "pom.artifactId" -> pom.getRoot().getArtifactId();
+        case "project.parent.version", "parent.version" -> parentRoot() == null ? null : parentRoot().getVersion();
+        case "project.parent.groupId", "parent.groupId" -> parentRoot() == null ? null : parentRoot().getGroupId();
+        case "project.parent.artifactId", "parent.artifactId" ->
+            parentRoot() == null ? null : parentRoot().getArtifactId();
+        default -> null;
+        };
+    }
+
+    public void clear() {
+        expressions.clear();
+        names.clear();
+    }
+
+    private String interpolate(final String text, final Set<String> visiting) {
+        var start = text.indexOf(START);
+        if (start < 0) {
+            return text;
+        }
+        final var sb = new StringBuilder(text.length() + 16);
+        var pos = 0;
+        while (start >= 0) {
+            final var end = findEnd(text, start + START.length());
+            if (end < 0) {
+                break;
+            }
+            final var name = interpolate(text.substring(start + START.length(), end), visiting);
+            final var value = name == null ? null : property(name, visiting);
+            if (value == null) {
+                return null;
+            }
+            sb.append(text, pos, start).append(value);
+            pos = end + 1;
+            start = text.indexOf(START, pos);
+        }
+        sb.append(text, pos, text.length());
+        return sb.toString();
+    }
+
+    private Dependency parentRoot() {
+        return pom.getParent() == null ? null : pom.getParent().getRoot();
+    }
+
+    private String property(final String name, final Set<String> visiting) {
+        final var cached = names.get(name);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        var value = builtin(name);
+        if (value == null) {
+            if (!visiting.add(name)) {
+                LOGGER.warn("Cyclic definition of property {} in {}", name, pom.getName());
+                return null;
+            }
+            final var raw = pom.getRawProperty(name);
+            value = raw == null ? null : interpolate(raw, visiting);
+            visiting.remove(name);
+        }
+        names.put(name, Optional.ofNullable(value));
+        return value;
+    }
+
+    public String resolve(final String expression) {
+        if (expression == null) {
+            return null;
+        }
+        final var cached = expressions.get(expression);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final var value = interpolate(expression, new HashSet<>());
+        expressions.put(expression, Optional.ofNullable(value));
+        return value;
+    }
+}
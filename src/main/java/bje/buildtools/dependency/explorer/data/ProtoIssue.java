@@ -51,6 +51,11 @@ public interface ProtoIssue extends Comparable<ProtoIssue> {
         return i;
     }
 
+    // edit of the pom fixing the issue, if any
+    default VersionBump getBump() {
+        return null;
+    }
+
     InputFile getComponent();
 
     String getDescription();
@@ -29,15 +29,15 @@ public enum UpdateLevel {
     MAJOR(3), MINOR(2), NONE(0), PATCH(1);
 
     public static UpdateLevel diff(final String a, final String b) {
-        return diff(new Version(a), new Version(b));
+        return diff(Version.of(a), Version.of(b));
     }
 
     public static UpdateLevel diff(final String a, final Version b) {
-        return diff(new Version(a), b);
+        return diff(Version.of(a), b);
     }
 
     public static UpdateLevel diff(final Version a, final String b) {
-        return diff(a, new Version(b));
+        return diff(a, Version.of(b));
     }
 
     public static UpdateLevel diff(final Version a, final Version b) {
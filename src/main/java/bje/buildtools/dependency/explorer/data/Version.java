@@ -23,22 +23,32 @@
  */
 package bje.buildtools.dependency.explorer.data;
 
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import bje.buildtools.dependency.explorer.util.Utils;
 
 public class Version implements Comparable<Version> {
     private static class Parts {
 
+        // leading digits, the rest is a qualifier: 0-M1, 3-jre, Final or RELEASE never fail
         public static Parts of(final String string) {
-            final var r = string.indexOf("-");
-            var toInt = string;
-            String other = null;
-            if (r > 0) {
-                toInt = string.substring(0, r);
-                other = string.substring(r + 1);
+            var r = 0;
+            while (r < string.length() && Character.isDigit(string.charAt(r))) {
+                r++;
             }
-            return new Parts(Integer.parseInt(toInt), other);
+            var value = 0;
+            try {
+                value = r == 0 ? 0 : Integer.parseInt(string.substring(0, r));
+            } catch (final NumberFormatException e) {
+                value = Integer.MAX_VALUE;
+            }
+            var other = string.substring(r);
+            if (other.startsWith("-")) {
+                other = other.substring(1);
+            }
+            return new Parts(value, other.isEmpty() ? null : other);
         }
 
         public final int intValue;
@@ -51,6 +61,11 @@ public class Version implements Comparable<Version> {
         }
     }
 
+    private static final int CACHE_LIMIT = 1 << 14;
+    // scan-wide flyweights, versions are immutable so instances are shared by every caller
+    private static final Map<String, Version> CACHE = new ConcurrentHashMap<>();
+    private static final Version NONE = new Version(null);
+
     private static String append(final String lsnap, final String stringValue) {
         if (lsnap != null) {
             if (stringValue == null) {
@@ -61,11 +76,30 @@ public class Version implements Comparable<Version> {
         return stringValue;
     }
 
+    public static Version of(final String s) {
+        if (s == null) {
+            return NONE;
+        }
+        var version = CACHE.get(s);
+        if (version == null) {
+            version = new Version(s);
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            CACHE.put(s, version);
+        }
+        return version;
+    }
+
+    // Maven ordering, compared as unsigned bytes
+    private final byte[] key;
     public final int major;
     public final int minor;
     public final String other;
     public final int patch;
     public final String snap;
+    // version as declared, the parsed parts normalize it
+    private final String text;
 
     public Version(final String s) {
         final var ss = s == null ? new String[0] : s.split("\\.");
@@ -103,39 +137,33 @@ public class Version implements Comparable<Version> {
         minor = lminor;
         patch = lpatch;
         snap = lsnap == null ? "" : lsnap;
+        text = s;
+        key = VersionKey.encode(s == null ? "" : s);
 
     }
 
     @Override
     public int compareTo(final Version o) {
-        var i = Integer.compare(major, o.major);
-        if (i == 0) {
-            i = Integer.compare(minor, o.minor);
-            if (i == 0) {
-                i = Integer.compare(patch, o.patch);
-                if (i == 0) {
-                    i = Utils.compare(other, o.other);
-                    if (i == 0) {
-                        i = -Utils.compare(snap, o.snap);
-                    }
-                }
-            }
-        }
-        return i;
+        return VersionKey.compare(key, o.key);
     }
 
     @Override
     public boolean equals(final Object o) {
-        if (o instanceof final Version v) {
-            return major == v.major && minor == v.minor && patch == v.patch && Objects.equals(other, v.other)
-                    && Objects.equals(snap, v.snap);
-        }
-        return false;
+        // equal when Maven orders them equal, 1.0 = 1.0.0 = 1.0-ga
+        return o instanceof final Version v && Arrays.equals(key, v.key);
+    }
+
+    long getHead() {
+        return VersionKey.head(key);
+    }
+
+    public String getText() {
+        return text;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(major, minor, patch, other, snap);
+        return Arrays.hashCode(key);
     }
 
     @Override
@@ -0,0 +1,262 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+// Sort key of a version following Maven 3.9 ComparableVersion: items split on '.', '-' and digit/letter transitions,
+// known qualifiers ranked, null items normalized away. Keys compare as unsigned bytes. ComparableVersion is not
+// transitive when items of different kinds meet (1.M.3 > 1 > 1-SNAPSHOT yet 1.M.3 < 1-SNAPSHOT), keys follow the
+// comparison with the missing item there.
+final class VersionKey {
+    private record Number(String digits) {
+    }
+
+    // tags ordered like the items they start, END is the missing (null) item; a null item kept in the middle of a
+    // list compares like the missing item, so it takes the LOW or HIGH form after the items following it
+    private static final int STRING_LOW = 0x10;
+    private static final int RELEASE_LOW = 0x14;
+    private static final int SUB_LOW = 0x18;
+    private static final int ZERO_LOW = 0x20;
+    private static final int END = 0x30;
+    private static final int RELEASE_HIGH = 0x34;
+    private static final int STRING_HIGH = 0x40;
+    private static final int SUB_HIGH = 0x50;
+    private static final int INT = 0x60;
+
+    private static final List<String> QUALIFIERS = List.of("alpha", "beta", "milestone", "rc", "snapshot", "", "sp");
+    private static final int RELEASE = QUALIFIERS.indexOf("");
+    private static final int UNKNOWN = QUALIFIERS.size();
+    private static final Number ZERO = new Number("");
+
+    static int compare(final byte[] a, final byte[] b) {
+        return Arrays.compareUnsigned(a, b);
+    }
+
+    static byte[] encode(final String aVersion) {
+        final var out = new ByteArrayOutputStream(16);
+        write(out, parse(aVersion.toLowerCase(Locale.ROOT)));
+        return out.toByteArray();
+    }
+
+    // first eight bytes as an unsigned long, zero padded: orders like the key up to ties
+    static long head(final byte[] aKey) {
+        var head = 0L;
+        for (var i = 0; i < Long.BYTES; i++) {
+            head = head << 8 | (i < aKey.length ? aKey[i] & 0xFF : 0);
+        }
+        return head;
+    }
+
+    private static boolean isNull(final Object anItem) {
+        if (anItem instanceof final List<?> l) {
+            return l.isEmpty();
+        }
+        return ZERO.equals(anItem) || "".equals(anItem);
+    }
+
+    private static Object item(final String aText, final boolean isDigit) {
+        return isDigit ? number(aText) : string(aText, false);
+    }
+
+    // trailing null items are removed, sub lists included and skipped over: 1.0.0-RC1 = 1-RC1
+    private static void normalize(final List<Object> aList) {
+        for (var i = aList.size() - 1; i >= 0; i--) {
+            final var item = aList.get(i);
+            if (isNull(item)) {
+                aList.remove(i);
+            } else if (!(item instanceof List)) {
+                break;
+            }
+        }
+    }
+
+    private static Number number(final String aText) {
+        var i = 0;
+        while (i < aText.length() - 1 && aText.charAt(i) == '0') {
+            i++;
+        }
+        final var digits = aText.substring(i);
+        return digits.isEmpty() || "0".equals(digits) ? ZERO : new Number(digits);
+    }
+
+    private static List<Object> open(final List<Object> aList, final Deque<List<Object>> aStack) {
+        final List<Object> sub = new ArrayList<>();
+        aList.add(sub);
+        aStack.push(sub);
+        return sub;
+    }
+
+    private static List<Object> parse(final String aVersion) {
+        final List<Object> root = new ArrayList<>();
+        final Deque<List<Object>> stack = new ArrayDeque<>();
+        stack.push(root);
+        var list = root;
+        var digit = false;
+        var start = 0;
+        for (var i = 0; i < aVersion.length(); i++) {
+            final var c = aVersion.charAt(i);
+            if (c == '.' || c == '-') {
+                list.add(i == start ? ZERO : item(aVersion.substring(start, i), digit));
+                start = i + 1;
+                if (c == '-') {
+                    list = open(list, stack);
+                }
+            } else if (Character.isDigit(c)) {
+                if (!digit && i > start) {
+                    // rc1 is rc-1, a letter before digits is an abbreviation: a1 = alpha-1
+                    if (!list.isEmpty()) {
+                        list = open(list, stack);
+                    }
+                    list.add(string(aVersion.substring(start, i), true));
+                    start = i;
+                    list = open(list, stack);
+                }
+                digit = true;
+            } else {
+                if (digit && i > start) {
+                    list.add(number(aVersion.substring(start, i)));
+                    start = i;
+                    list = open(list, stack);
+                }
+                digit = false;
+            }
+        }
+        if (aVersion.length() > start) {
+            // 1.0.0.X1 < 1.0.0-X2, a trailing qualifier is always a sub list
+            if (!digit && !list.isEmpty()) {
+                list = open(list, stack);
+            }
+            list.add(item(aVersion.substring(start), digit));
+        }
+        while (!stack.isEmpty()) {
+            normalize(stack.pop());
+        }
+        return root;
+    }
+
+    private static int rank(final String aQualifier) {
+        final var i = QUALIFIERS.indexOf(aQualifier);
+        return i < 0 ? UNKNOWN : i;
+    }
+
+    // sign of the items from anIndex on compared to missing items
+    private static int rest(final List<?> aList, final int anIndex) {
+        for (var i = anIndex; i < aList.size(); i++) {
+            final var sign = sign(aList.get(i));
+            if (sign != 0) {
+                return sign;
+            }
+        }
+        return 0;
+    }
+
+    private static int sign(final Object anItem) {
+        if (anItem instanceof final Number n) {
+            return ZERO.equals(n) ? 0 : 1;
+        }
+        if (anItem instanceof final String s) {
+            return Integer.signum(rank(s) - RELEASE);
+        }
+        return rest((List<?>) anItem, 0);
+    }
+
+    private static String string(final String aText, final boolean followedByDigit) {
+        if (followedByDigit && aText.length() == 1) {
+            switch (aText.charAt(0)) {
+            case 'a':
+                return "alpha";
+            case 'b':
+                return "beta";
+            case 'm':
+                return "milestone";
+            default:
+                break;
+            }
+        }
+        return switch (aText) {
+        case "ga", "final", "release" -> "";
+        case "cr" -> "rc";
+        default -> aText;
+        };
+    }
+
+    private static void write(final ByteArrayOutputStream out, final List<?> aList) {
+        for (var i = 0; i < aList.size(); i++) {
+            final var item = aList.get(i);
+            var sign = sign(item);
+            if (sign == 0) {
+                sign = rest(aList, i + 1);
+            }
+            if (sign == 0) {
+                // equal to missing items whatever follows
+                continue;
+            }
+            if (item instanceof final Number n) {
+                if (ZERO.equals(n) && sign < 0) {
+                    out.write(ZERO_LOW);
+                } else {
+                    out.write(INT);
+                    write(out, n);
+                }
+            } else if (item instanceof final String s) {
+                write(out, s, sign);
+            } else {
+                out.write(sign < 0 ? SUB_LOW : SUB_HIGH);
+                write(out, (List<?>) item);
+            }
+        }
+        out.write(END);
+    }
+
+    private static void write(final ByteArrayOutputStream out, final Number aNumber) {
+        out.write(Math.min(aNumber.digits.length(), 0xFF));
+        out.writeBytes(aNumber.digits.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void write(final ByteArrayOutputStream out, final String aQualifier, final int aSign) {
+        final var rank = rank(aQualifier);
+        if (rank == RELEASE) {
+            out.write(aSign < 0 ? RELEASE_LOW : RELEASE_HIGH);
+        } else {
+            out.write(rank < RELEASE ? STRING_LOW : STRING_HIGH);
+            out.write(rank);
+            if (rank == UNKNOWN) {
+                out.writeBytes(aQualifier.getBytes(StandardCharsets.UTF_8));
+                out.write(0);
+            }
+        }
+    }
+
+    private VersionKey() {
+        // block default constructor
+    }
+}
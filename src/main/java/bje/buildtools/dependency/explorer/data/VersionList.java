@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Immutable sorted list of versions backed by arrays, identical lists are shared across modules.
+// Lookups binary search the packed key heads and only compare full keys on ties.
+public final class VersionList extends AbstractList<Version> implements RandomAccess {
+    public static final VersionList EMPTY = new VersionList(new Version[0], new long[0], 0, 0);
+    private static final int POOL_LIMIT = 1 << 14;
+    private static final Map<VersionList, VersionList> POOL = new ConcurrentHashMap<>();
+
+    private static VersionList intern(final VersionList aList) {
+        if (aList.isEmpty()) {
+            return EMPTY;
+        }
+        final var shared = POOL.get(aList);
+        if (shared != null) {
+            return shared;
+        }
+        if (POOL.size() >= POOL_LIMIT) {
+            POOL.clear();
+        }
+        final var existing = POOL.putIfAbsent(aList, aList);
+        return existing == null ? aList : existing;
+    }
+
+    public static VersionList of(final Collection<Version> someVersions) {
+        return EMPTY.with(someVersions);
+    }
+
+    private final int from;
+    private int hash;
+    private final long[] heads;
+    private final Version[] items;
+    private final int to;
+
+    private VersionList(final Version[] someItems, final long[] someHeads, final int aFrom, final int aTo) {
+        items = someItems;
+        heads = someHeads;
+        from = aFrom;
+        to = aTo;
+    }
+
+    // smallest version greater or equal to the given one, null when none
+    public Version ceiling(final Version aVersion) {
+        final var i = search(aVersion);
+        return i < to ? items[i] : null;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (o instanceof final Version v) {
+            final var i = search(v);
+            return i < to && items[i].compareTo(v) == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof final VersionList l && l.hashCode() != hashCode()) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    public Version first() {
+        return isEmpty() ? null : items[from];
+    }
+
+    @Override
+    public Version get(final int anIndex) {
+        if (anIndex < 0 || anIndex >= size()) {
+            throw new IndexOutOfBoundsException(anIndex);
+        }
+        return items[from + anIndex];
+    }
+
+    @Override
+    public int hashCode() {
+        var h = hash;
+        if (h == 0) {
+            h = super.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    public Version last() {
+        return isEmpty() ? null : items[to - 1];
+    }
+
+    private int search(final Version aVersion) {
+        final var head = aVersion.getHead();
+        var lo = from;
+        var hi = to;
+        while (lo < hi) {
+            final var mid = lo + hi >>> 1;
+            var c = Long.compareUnsigned(heads[mid], head);
+            if (c == 0) {
+                c = items[mid].compareTo(aVersion);
+            }
+            if (c < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    // versions greater or equal to the given one, the arrays are shared with this list
+    public VersionList tailList(final Version aVersion) {
+        final var i = search(aVersion);
+        if (i == from) {
+            return this;
+        }
+        return i == to ? EMPTY : new VersionList(items, heads, i, to);
+    }
+
+    public VersionList with(final Collection<Version> someVersions) {
+        if (someVersions.isEmpty()) {
+            return this;
+        }
+        final var all = new ArrayList<Version>(size() + someVersions.size());
+        all.addAll(this);
+        all.addAll(someVersions);
+        all.sort(null);
+        final var sorted = new Version[all.size()];
+        var n = 0;
+        for (final Version v : all) {
+            if (n == 0 || sorted[n - 1].compareTo(v) != 0) {
+                sorted[n++] = v;
+            }
+        }
+        if (n == size()) {
+            return this;
+        }
+        final var packed = new long[n];
+        for (var i = 0; i < n; i++) {
+            packed[i] = sorted[i].getHead();
+        }
+        return intern(new VersionList(Arrays.copyOf(sorted, n), packed, 0, n));
+    }
+}
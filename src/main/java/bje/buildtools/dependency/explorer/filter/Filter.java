@@ -25,5 +25,10 @@ package bje.buildtools.dependency.explorer.filter;
 
 @FunctionalInterface
 public interface Filter {
+    // true when every version of the groupId:artifactId is filtered, so the artifact can be skipped before parsing
+    default boolean isInFilter(final String aGroupId, final String anArtifactId) {
+        return false;
+    }
+
     boolean isInFilter(final String aGroupId, final String anArtifactId, final String version);
 }
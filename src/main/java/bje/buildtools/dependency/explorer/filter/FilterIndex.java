@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import bje.buildtools.dependency.explorer.filter.WildcardStringPattern.MatchType;
+
+// compiled form of a filter list: literal group prefixes go into a trie, the other group patterns are scanned,
+// and the version patterns left to check for a groupId:artifactId are memoized
+final class FilterIndex {
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<PatternFilter> exact = new ArrayList<>();
+        private final List<PatternFilter> prefix = new ArrayList<>();
+    }
+
+    private static final int MEMO_LIMIT = 1 << 16;
+    private static final Pattern[] NO_PATTERN = {};
+
+    private final List<PatternFilter> fallback = new ArrayList<>();
+    private final Map<String, Pattern[]> memo = new ConcurrentHashMap<>();
+    private final Node root = new Node();
+
+    FilterIndex(final List<PatternFilter> someFilters) {
+        for (final PatternFilter filter : someFilters) {
+            if (filter.getGroupPattern() instanceof final WildcardStringPattern p
+                    && (p.getType() == MatchType.PLAIN_MATCH || p.getType() == MatchType.START_MATCH)) {
+                var node = root;
+                final var head = p.getHead();
+                for (var i = 0; i < head.length(); i++) {
+                    node = node.children.computeIfAbsent(head.charAt(i), c -> new Node());
+                }
+                (p.getType() == MatchType.PLAIN_MATCH ? node.exact : node.prefix).add(filter);
+            } else {
+                fallback.add(filter);
+            }
+        }
+    }
+
+    private static void collect(final List<PatternFilter> someFilters, final String anArtifactId,
+            final List<Pattern> aResult) {
+        for (final PatternFilter filter : someFilters) {
+            if (filter.getArtifactPattern().isInPattern(anArtifactId)) {
+                aResult.add(filter.getVersionPattern());
+            }
+        }
+    }
+
+    private Pattern[] compute(final String aGroupId, final String anArtifactId) {
+        final List<Pattern> result = new ArrayList<>();
+        if (aGroupId != null) {
+            var node = root;
+            for (var i = 0; node != null && i < aGroupId.length(); i++) {
+                collect(node.prefix, anArtifactId, result);
+                node = node.children.get(aGroupId.charAt(i));
+            }
+            if (node != null) {
+                collect(node.prefix, anArtifactId, result);
+                collect(node.exact, anArtifactId, result);
+            }
+        }
+        for (final PatternFilter filter : fallback) {
+            if (filter.getGroupPattern().isInPattern(aGroupId)
+                    && filter.getArtifactPattern().isInPattern(anArtifactId)) {
+                result.add(filter.getVersionPattern());
+            }
+        }
+        return result.isEmpty() ? NO_PATTERN : result.toArray(NO_PATTERN);
+    }
+
+    boolean isInFilter(final String aGroupId, final String anArtifactId) {
+        for (final Pattern pattern : versionPatterns(aGroupId, anArtifactId)) {
+            if (pattern.isPassAll()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isInFilter(final String aGroupId, final String anArtifactId, final String aVersion) {
+        for (final Pattern pattern : versionPatterns(aGroupId, anArtifactId)) {
+            if (pattern.isInPattern(aVersion)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Pattern[] versionPatterns(final String aGroupId, final String anArtifactId) {
+        if (aGroupId == null || anArtifactId == null) {
+            return compute(aGroupId, anArtifactId);
+        }
+        final var key = aGroupId + ':' + anArtifactId;
+        var patterns = memo.get(key);
+        if (patterns == null) {
+            patterns = compute(aGroupId, anArtifactId);
+            if (memo.size() >= MEMO_LIMIT) {
+                memo.clear();
+            }
+            memo.put(key, patterns);
+        }
+        return patterns;
+    }
+}
@@ -30,7 +30,8 @@ import java.util.StringTokenizer;
 
 public class FilterList implements Filter {
 
-    private final List<Filter> filters = new ArrayList<>();
+    private final List<PatternFilter> filters = new ArrayList<>();
+    private final FilterIndex index;
 
     public FilterList(final String aFiltersString) {
         if (aFiltersString != null) {
@@ -39,6 +40,7 @@ public class FilterList implements Filter {
                 filters.add(PatternFilter.valueOf(token.nextToken()));
             }
         }
+        index = new FilterIndex(filters);
     }
 
     @Override
@@ -54,21 +56,21 @@ public class FilterList implements Filter {
         return Objects.hash(filters);
     }
 
+    @Override
+    public boolean isInFilter(final String aGroupId, final String anArtifactId) {
+        return index.isInFilter(aGroupId, anArtifactId);
+    }
+
     @Override
     public boolean isInFilter(final String aGroupId, final String anArtifactId, final String aVersion) {
-        for (final Filter filter : filters) {
-            if (filter.isInFilter(aGroupId, anArtifactId, aVersion)) {
-                return true;
-            }
-        }
-        return false;
+        return index.isInFilter(aGroupId, anArtifactId, aVersion);
     }
 
     @Override
     public String toString() {
         final var sb = new StringBuilder(512);
         var sep = false;
-        for (final Filter filter : filters) {
+        for (final PatternFilter filter : filters) {
             if (sep) {
                 sb.append(",");
             }
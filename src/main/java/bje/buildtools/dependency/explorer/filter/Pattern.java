@@ -33,6 +33,11 @@ public interface Pattern {
             return true;
         }
 
+        @Override
+        public boolean isPassAll() {
+            return true;
+        }
+
         @Override
         public String toString() {
             return "";
@@ -47,4 +52,8 @@ public interface Pattern {
     }
 
     boolean isInPattern(final String value);
+
+    default boolean isPassAll() {
+        return false;
+    }
 }
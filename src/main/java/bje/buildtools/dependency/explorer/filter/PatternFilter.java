@@ -54,6 +54,18 @@ public class PatternFilter implements Filter {
         return false;
     }
 
+    Pattern getArtifactPattern() {
+        return artifactPattern;
+    }
+
+    Pattern getGroupPattern() {
+        return groupPattern;
+    }
+
+    Pattern getVersionPattern() {
+        return versionPattern;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(groupPattern, artifactPattern, versionPattern);
@@ -68,6 +68,15 @@ public class WildcardStringPattern implements Pattern {
         return false;
     }
 
+    // literal part before the wildcard, the whole value for a plain match
+    String getHead() {
+        return type == MatchType.END_MATCH ? "" : group1;
+    }
+
+    MatchType getType() {
+        return type;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(group1, group2, type);
@@ -87,6 +96,11 @@ public class WildcardStringPattern implements Pattern {
         return false;
     }
 
+    @Override
+    public boolean isPassAll() {
+        return type == MatchType.END_MATCH && group1.isEmpty();
+    }
+
     @Override
     public String toString() {
         return switch (type) {
@@ -39,11 +39,12 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 import bje.buildtools.dependency.explorer.util.Constants;
-import bje.buildtools.dependency.explorer.util.Utils;
 import bje.toolbox.xml.Data;
+import bje.toolbox.xml.Projection;
 import bje.toolbox.xml.XMLMapper;
 import bje.toolbox.xml.XMLMappingHandler;
 import bje.toolbox.xml.XMLMultiMappingHandler;
+import bje.toolbox.xml.XMLParsers;
 
 public class LicenseParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(LicenseParser.class);
@@ -110,11 +111,12 @@ public class LicenseParser {
     public static void parse(final LicenseModel model, final Reader reader)
             throws ParserConfigurationException, SAXException, IOException {
         final var families = new XMLMappingHandler(createFamiliesSaver(model),
-                "/licenses/licenseFamilies/licenseFamily");
+                "/licenses/licenseFamilies/licenseFamily",
+                Projection.withoutRanges("/name", "/integration", "/parameter"));
         final var identities = new XMLMappingHandler(createIdentitiesSaver(model),
-                "/licenses/licenseIdentities/licenseIdentity");
-        final var saxParser = Utils.getSAXParser();
-        saxParser.parse(new InputSource(reader), new XMLMultiMappingHandler(families, identities));
+                "/licenses/licenseIdentities/licenseIdentity",
+                Projection.withoutRanges("/name", "/family", "/matching"));
+        XMLParsers.parse(new InputSource(reader), new XMLMultiMappingHandler(families, identities));
     }
 
     private LicenseParser() {
@@ -25,41 +25,83 @@ package bje.buildtools.dependency.explorer.maven;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
 import org.xml.sax.SAXException;
 
 import bje.buildtools.dependency.explorer.ExplorerSensor.InputFileCreator;
+import bje.buildtools.dependency.explorer.data.POMType;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
 
 public class MavenCrawler {
+    @FunctionalInterface
+    public interface PomConsumer {
+        void accept(final Pom aPom) throws IOException;
+    }
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MavenCrawler.class);
 
     public static Pom[] compileFiles(final InputFileCreator creator, final ExplorationConfiguration config)
             throws IOException, SAXException, ParserConfigurationException {
-        final var msettings = MavenSettings.fromCommandLine();
         final List<Pom> files = new ArrayList<>();
+        compileFiles(creator, config, files::add);
+        return files.toArray(new Pom[files.size()]);
+    }
+
+    // each pom is handed over once resolved, the main one first, and not kept afterwards; returns the pom count
+    public static int compileFiles(final InputFileCreator creator, final ExplorationConfiguration config,
+            final PomConsumer aConsumer) throws IOException, SAXException, ParserConfigurationException {
+        final var msettings = MavenSettings.fromCommandLine();
         final var component = creator.create("pom.xml");
-        if (component != null && component.isFile()) {
-            LOGGER.debug("Load pom for {}", component);
-            final var pom = PomFactory.resolve(component, msettings, config);
-            files.add(pom);
-            for (final String pathPrefix : pom.getModules()) {
-                final var subComponent = creator.create(pathPrefix + "/pom.xml");
-                if (subComponent != null) {
-                    LOGGER.debug("Load pom for {}", subComponent);
-                    files.add(PomFactory.resolve(subComponent, msettings, config, pom));
-                }
-            }
-        } else {
+        if (component == null || !component.isFile()) {
             LOGGER.warn("No pom.xml found");
+            return 0;
+        }
+        LOGGER.debug("Load pom for {}", component);
+        final var pom = PomFactory.resolve(component, msettings, config);
+        aConsumer.accept(pom);
+        final List<InputFile> modules = new ArrayList<>();
+        for (final String pathPrefix : pom.getModules()) {
+            final var subComponent = creator.create(pathPrefix + "/pom.xml");
+            if (subComponent != null) {
+                modules.add(subComponent);
+            }
+        }
+        final var models = loadModels(modules, config);
+        for (var i = 0; i < modules.size(); ++i) {
+            final var subComponent = modules.get(i);
+            LOGGER.debug("Load pom for {}", subComponent);
+            if (models.get(i) == null) {
+                aConsumer.accept(PomFactory.resolve(subComponent, msettings, config, pom));
+            } else {
+                // the parsed model is released along with the module
+                aConsumer.accept(PomFactory.resolve(subComponent, msettings, config, pom, POMType.MODULE,
+                        models.set(i, null)));
+            }
+        }
+        return modules.size() + 1;
+    }
+
+    // module poms are read in parallel, they are then resolved in order
+    private static List<PomModel> loadModels(final List<InputFile> modules, final ExplorationConfiguration config) {
+        if (modules.size() < 2) {
+            return Collections.nCopies(modules.size(), null);
+        }
+        final var executor = Executors
+                .newFixedThreadPool(Math.min(modules.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            return PomModelCache.loadAll(modules, config.cacheDirectory, executor);
+        } finally {
+            executor.shutdown();
         }
-        return files.toArray(new Pom[files.size()]);
     }
 
     private MavenCrawler() {
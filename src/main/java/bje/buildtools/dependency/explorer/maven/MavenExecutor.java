@@ -39,6 +39,7 @@ import org.xml.sax.SAXException;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.data.POMType;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 
 public final class MavenExecutor {
     public static class PluginExecution {
@@ -149,6 +150,7 @@ public final class MavenExecutor {
             if (p.parser.parse(report, pom, config)) {
                 LOGGER.debug(" !!! Found data");
             }
+            FileContentCache.release(report);
             done = true;
         }
         return done;
@@ -24,7 +24,12 @@
 package bje.buildtools.dependency.explorer.maven;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -48,6 +53,15 @@ import bje.buildtools.dependency.explorer.util.InputFileUtils;
 public class PomFactory {
     private static final Logger LOGGER = LoggerFactory.getLogger(PomFactory.class);
     private static final String DONE = "........................................................................... done";
+    private static final Map<String, Pom> BOMS = new ConcurrentHashMap<>();
+    private static final String IMPORT = "import";
+    // BOMs being resolved by the current thread, a BOM importing one of them closes a cycle
+    private static final ThreadLocal<Set<String>> LOADING = ThreadLocal.withInitial(HashSet::new);
+
+    // imported BOMs live for one scan
+    public static void clear() {
+        BOMS.clear();
+    }
 
     private static String getArtefactDirectoryPath(final String baseDirectoryPath, final String groupId,
             final String artifactId, final String artifactVersion) {
@@ -59,6 +73,50 @@ public class PomFactory {
         return artifactId + "-" + artifactVersion + ".pom";
     }
 
+    private static Path getRepositoryPom(final MavenSettings msettings, final String groupId,
+            final String artifactId, final String version) {
+        return Path.of(getArtefactDirectoryPath(msettings.localRepository + "/repository", groupId, artifactId, version)
+                + "/" + getArtefactFile(artifactId, version));
+    }
+
+    private static Pom loadBom(final Pom pom, final PomModel.Declaration declaration, final MavenSettings msettings,
+            final ExplorationConfiguration config) throws IOException, SAXException, ParserConfigurationException {
+        var version = declaration.getVersion();
+        if (version != null && version.contains("${")) {
+            version = pom.resolveProperty(version);
+        }
+        if (version == null) {
+            LOGGER.warn("Unable to resolve version of imported BOM {}:{}", declaration.getGroupId(),
+                    declaration.getArtifactId());
+            return null;
+        }
+        final var gav = declaration.getGroupId() + ":" + declaration.getArtifactId() + ":" + version;
+        var bom = BOMS.get(gav);
+        if (bom == null) {
+            final var f = getRepositoryPom(msettings, declaration.getGroupId(), declaration.getArtifactId(), version);
+            if (!Files.isRegularFile(f)) {
+                LOGGER.warn("Imported BOM {} not found in local repository : {}", gav, f.toAbsolutePath());
+                return null;
+            }
+            final var loading = LOADING.get();
+            if (!loading.add(gav)) {
+                LOGGER.warn("Skip cyclic import of BOM {}", gav);
+                return null;
+            }
+            LOGGER.debug("Loading imported BOM file : {}", f.toAbsolutePath());
+            try {
+                bom = resolve(InputFileUtils.loadFile(f), msettings, config, null, POMType.BOM);
+            } finally {
+                loading.remove(gav);
+            }
+            final var previous = BOMS.putIfAbsent(gav, bom);
+            if (previous != null) {
+                bom = previous;
+            }
+        }
+        return bom;
+    }
+
     public static Pom resolve(final InputFile file, final MavenSettings msettings,
             final ExplorationConfiguration config) throws IOException, SAXException, ParserConfigurationException {
         return resolve(file, msettings, config, null, POMType.MAIN);
@@ -73,18 +131,22 @@ public class PomFactory {
     public static Pom resolve(final InputFile file, final MavenSettings msettings,
             final ExplorationConfiguration config, final Pom parent, final POMType type)
             throws IOException, SAXException, ParserConfigurationException {
+        return resolve(file, msettings, config, parent, type, PomModelCache.load(file, config.cacheDirectory));
+    }
+
+    public static Pom resolve(final InputFile file, final MavenSettings msettings,
+            final ExplorationConfiguration config, final Pom parent, final POMType type, final PomModel model)
+            throws IOException, SAXException, ParserConfigurationException {
         LOGGER.info("Creating POM for : {}", file);
         final var pom = new Pom(file, parent, type);
-        LOGGER.trace("Read POM for parent and properties");
-        final var fp = PomParser.firstParse(pom);
+        final var fp = PomParser.firstParse(pom, model);
         LOGGER.trace("Create Maven resolver");
         if (parent == null && fp.getParent() != null) {
             final var parentPomDef = new Dependency(pom, fp.getParent());
             final var gav = parentPomDef.toGAV();
             LOGGER.debug("Loading parent pom : {}", gav);
-            final var f = Path.of(getArtefactDirectoryPath(msettings.localRepository + "/repository",
-                    parentPomDef.getGroupId(), parentPomDef.getArtifactId(), parentPomDef.getVersion()) + "/"
-                    + getArtefactFile(parentPomDef.getArtifactId(), parentPomDef.getVersion()));
+            final var f = getRepositoryPom(msettings, parentPomDef.getGroupId(), parentPomDef.getArtifactId(),
+                    parentPomDef.getVersion());
             if (f != null) {
                 LOGGER.debug("Loading parent pom file : {}", f.toAbsolutePath());
                 final var parentFile = InputFileUtils.loadFile(f);
@@ -94,7 +156,15 @@ public class PomFactory {
         }
         pom.fill(fp);
         LOGGER.trace("Read POM for dependencies");
-        PomParser.secondParse(pom, config.parsePlugin);
+        PomParser.secondParse(pom, model, config.parsePlugin);
+        for (final PomModel.Declaration declaration : model.getDependencyManagement()) {
+            if (IMPORT.equals(declaration.getScope()) && "pom".equals(declaration.getType())) {
+                final var bom = loadBom(pom, declaration, msettings, config);
+                if (bom != null) {
+                    pom.addImport(bom);
+                }
+            }
+        }
         if (POMType.MAIN == pom.getType() || POMType.MODULE == pom.getType()) {
             LOGGER.trace("Resolve all dependencies");
             final var executor = new MavenExecutor(pom, msettings, config);
@@ -102,8 +172,8 @@ public class PomFactory {
             executor.analyse();
             pom.updateRoot();
         }
-        PomParser.thirdParse(pom, ExplorerSensor.LICENSE_MODEL.get(), config.parsePlugin);
-        if (POMType.PARENT != pom.getType()) {
+        PomParser.thirdParse(pom, model, ExplorerSensor.LICENSE_MODEL.get(), config.parsePlugin);
+        if (POMType.MAIN == pom.getType() || POMType.MODULE == pom.getType()) {
             final var executor = new MavenExecutor(pom, msettings, config);
             LOGGER.trace("Inscribe dependencies project info reports : check transitive dependency, licenses");
             ProjectInfoDependencies.analyse(executor);
@@ -116,6 +186,7 @@ public class PomFactory {
             executor.analyse();
             LOGGER.trace(DONE);
         }
+        pom.markResolved();
         LOGGER.trace("Created");
         return pom;
     }
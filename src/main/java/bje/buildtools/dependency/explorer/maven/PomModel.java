@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import bje.toolbox.xml.Data;
+import bje.toolbox.xml.Range;
+import bje.toolbox.xml.binding.XMLBinding;
+import bje.toolbox.xml.binding.XMLPath;
+
+public class PomModel {
+    @XMLBinding
+    public static class Declaration {
+        private final String artifactId;
+        private final String groupId;
+        private final String optional;
+        private final String scope;
+        private final String type;
+        private final Data version;
+
+        public Declaration(@XMLPath("/groupId") final String aGroupId,
+                @XMLPath("/artifactId") final String anArtifactId, @XMLPath("/version") final Data aVersion,
+                @XMLPath("/type") final String aType, @XMLPath("/scope") final String aScope,
+                @XMLPath("/optional") final String anOptional) {
+            groupId = aGroupId;
+            artifactId = anArtifactId;
+            version = aVersion;
+            type = aType;
+            scope = aScope;
+            optional = anOptional;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getOptional() {
+            return optional;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getVersion() {
+            return version == null ? null : version.getText();
+        }
+
+        public Data getVersionData() {
+            return version;
+        }
+
+        public Range getVersionRange() {
+            return version == null ? null : version.getRange();
+        }
+    }
+
+    public static class Property {
+        private final Data data;
+        private final String name;
+
+        public Property(final String aName, final Data aData) {
+            name = aName;
+            data = aData;
+        }
+
+        public Data getData() {
+            return data;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private String artifactId;
+    private final List<Declaration> dependencies = new ArrayList<>();
+    private final List<Declaration> dependencyManagement = new ArrayList<>();
+    private String groupId;
+    private boolean hasParent;
+    private final List<String> licenses = new ArrayList<>();
+    private final List<String> modules = new ArrayList<>();
+    private String parentArtifactId;
+    private String parentGroupId;
+    private String parentVersion;
+    private final List<Declaration> pluginManagement = new ArrayList<>();
+    private final List<Declaration> plugins = new ArrayList<>();
+    private final List<Property> properties = new ArrayList<>();
+    private String version;
+
+    public void addDependency(final Declaration declaration) {
+        dependencies.add(declaration);
+    }
+
+    public void addDependencyManagement(final Declaration declaration) {
+        dependencyManagement.add(declaration);
+    }
+
+    public void addLicense(final String name) {
+        licenses.add(name);
+    }
+
+    public void addModule(final String module) {
+        modules.add(module);
+    }
+
+    public void addPlugin(final Declaration declaration) {
+        plugins.add(declaration);
+    }
+
+    public void addPluginManagement(final Declaration declaration) {
+        pluginManagement.add(declaration);
+    }
+
+    public void addProperty(final String name, final Data data) {
+        properties.add(new Property(name, data));
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public List<Declaration> getDependencies() {
+        return dependencies;
+    }
+
+    public List<Declaration> getDependencyManagement() {
+        return dependencyManagement;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public List<String> getLicenses() {
+        return licenses;
+    }
+
+    public List<String> getModules() {
+        return modules;
+    }
+
+    public String getParentArtifactId() {
+        return parentArtifactId;
+    }
+
+    public String getParentGroupId() {
+        return parentGroupId;
+    }
+
+    public String getParentVersion() {
+        return parentVersion;
+    }
+
+    public List<Declaration> getPluginManagement() {
+        return pluginManagement;
+    }
+
+    public List<Declaration> getPlugins() {
+        return plugins;
+    }
+
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean hasParent() {
+        return hasParent;
+    }
+
+    public void setArtifactId(final String string) {
+        artifactId = string;
+    }
+
+    public void setGroupId(final String string) {
+        groupId = string;
+    }
+
+    public void setParent(final String aGroupId, final String anArtifactId, final String aVersion) {
+        hasParent = true;
+        parentGroupId = aGroupId;
+        parentArtifactId = anArtifactId;
+        parentVersion = aVersion;
+    }
+
+    public void setVersion(final String string) {
+        version = string;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+import org.xml.sax.SAXException;
+
+import bje.buildtools.dependency.explorer.maven.PomModel.Declaration;
+import bje.toolbox.xml.Data;
+import bje.toolbox.xml.Range;
+
+public class PomModelCache {
+    private static final String EXTENSION = ".pommodel";
+    // increase on any change of PomModel or of the encoding, older snapshots are then rewritten
+    private static final int FORMAT_VERSION = 1;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PomModelCache.class);
+    private static final int MAGIC = 0x44455850;
+
+    public static PomModel load(final InputFile file, final Path cacheDirectory)
+            throws SAXException, IOException, ParserConfigurationException {
+        if (cacheDirectory == null) {
+            return PomParser.parse(file);
+        }
+        final var hash = file.md5Hash();
+        if (hash == null) {
+            return PomParser.parse(file);
+        }
+        final var snapshot = cacheDirectory.resolve(hash + EXTENSION);
+        if (Files.isRegularFile(snapshot)) {
+            final var model = read(snapshot);
+            if (model != null) {
+                LOGGER.debug("POM model of {} loaded from {}", file, snapshot);
+                return model;
+            }
+        }
+        final var model = PomParser.parse(file);
+        write(snapshot, model);
+        return model;
+    }
+
+    // snapshots are read first, the other poms are parsed on the executor; null for a pom that cannot be read
+    public static List<PomModel> loadAll(final List<InputFile> files, final Path cacheDirectory,
+            final Executor executor) {
+        final List<PomModel> models = new ArrayList<>(files.size());
+        final List<InputFile> missing = new ArrayList<>();
+        final List<Path> snapshots = new ArrayList<>();
+        for (final InputFile file : files) {
+            final var hash = cacheDirectory == null ? null : file.md5Hash();
+            final var snapshot = hash == null ? null : cacheDirectory.resolve(hash + EXTENSION);
+            final var model = snapshot != null && Files.isRegularFile(snapshot) ? read(snapshot) : null;
+            models.add(model);
+            if (model == null) {
+                missing.add(file);
+                snapshots.add(snapshot);
+            }
+        }
+        final var parsed = PomParser.parseAll(missing, executor);
+        var j = 0;
+        for (var i = 0; i < models.size(); ++i) {
+            if (models.get(i) == null) {
+                final var result = parsed.get(j);
+                if (result.isValid()) {
+                    models.set(i, result.getValue());
+                    if (snapshots.get(j) != null) {
+                        write(snapshots.get(j), result.getValue());
+                    }
+                } else {
+                    LOGGER.warn("Unable to read {}", files.get(i), result.getError());
+                }
+                ++j;
+            }
+        }
+        return models;
+    }
+
+    private static PomModel read(final Path snapshot) {
+        try (final var channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                LOGGER.debug("Ignore snapshot {} : unknown format", snapshot);
+                return null;
+            }
+            return decode(buffer);
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOGGER.warn("Ignore unreadable snapshot {}", snapshot, e);
+            return null;
+        }
+    }
+
+    private static void write(final Path snapshot, final PomModel model) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(snapshot.getParent());
+            tmp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+            Files.write(tmp, encode(model));
+            Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to write snapshot {}", snapshot, e);
+            // a half written file is never picked up, it would only pile up in the cache directory
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (final IOException e2) {
+                    LOGGER.debug("Unable to delete {}", tmp, e2);
+                }
+            }
+        }
+    }
+
+    static PomModel decode(final ByteBuffer buffer) {
+        final var model = new PomModel();
+        if (buffer.get() != 0) {
+            model.setParent(readString(buffer), readString(buffer), readString(buffer));
+        }
+        model.setGroupId(readString(buffer));
+        model.setArtifactId(readString(buffer));
+        model.setVersion(readString(buffer));
+        var limit = buffer.getInt();
+        for (var i = 0; i < limit; ++i) {
+            final var name = readString(buffer);
+            final var text = readString(buffer);
+            model.addProperty(name, new Data(text, readRange(buffer)));
+        }
+        limit = buffer.getInt();
+        for (var i = 0; i < limit; ++i) {
+            model.addModule(readString(buffer));
+        }
+        limit = buffer.getInt();
+        for (var i = 0; i < limit; ++i) {
+            model.addLicense(readString(buffer));
+        }
+        readDeclarations(buffer, model.getDependencyManagement());
+        readDeclarations(buffer, model.getPluginManagement());
+        readDeclarations(buffer, model.getDependencies());
+        readDeclarations(buffer, model.getPlugins());
+        return model;
+    }
+
+    static byte[] encode(final PomModel model) throws IOException {
+        final var bytes = new ByteArrayOutputStream(4096);
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeBoolean(model.hasParent());
+            if (model.hasParent()) {
+                writeString(out, model.getParentGroupId());
+                writeString(out, model.getParentArtifactId());
+                writeString(out, model.getParentVersion());
+            }
+            writeString(out, model.getGroupId());
+            writeString(out, model.getArtifactId());
+            writeString(out, model.getVersion());
+            out.writeInt(model.getProperties().size());
+            for (final PomModel.Property property : model.getProperties()) {
+                writeString(out, property.getName());
+                writeString(out, property.getData().getText());
+                writeRange(out, property.getData().getRange());
+            }
+            out.writeInt(model.getModules().size());
+            for (final String module : model.getModules()) {
+                writeString(out, module);
+            }
+            out.writeInt(model.getLicenses().size());
+            for (final String license : model.getLicenses()) {
+                writeString(out, license);
+            }
+            writeDeclarations(out, model.getDependencyManagement());
+            writeDeclarations(out, model.getPluginManagement());
+            writeDeclarations(out, model.getDependencies());
+            writeDeclarations(out, model.getPlugins());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void readDeclarations(final ByteBuffer buffer, final List<Declaration> declarations) {
+        final var limit = buffer.getInt();
+        for (var i = 0; i < limit; ++i) {
+            final var groupId = readString(buffer);
+            final var artifactId = readString(buffer);
+            final var version = readString(buffer);
+            final var range = readRange(buffer);
+            final var type = readString(buffer);
+            final var scope = readString(buffer);
+            final var optional = readString(buffer);
+            declarations.add(new Declaration(groupId, artifactId, version == null ? null : new Data(version, range),
+                    type, scope, optional));
+        }
+    }
+
+    private static Range readRange(final ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return new Range(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        // a corrupt length must not be allocated before it is checked
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("string of " + length + " bytes past the end of the snapshot");
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDeclarations(final DataOutputStream out, final List<Declaration> declarations)
+            throws IOException {
+        out.writeInt(declarations.size());
+        for (final Declaration declaration : declarations) {
+            writeString(out, declaration.getGroupId());
+            writeString(out, declaration.getArtifactId());
+            writeString(out, declaration.getVersion());
+            writeRange(out, declaration.getVersionRange());
+            writeString(out, declaration.getType());
+            writeString(out, declaration.getScope());
+            writeString(out, declaration.getOptional());
+        }
+    }
+
+    private static void writeRange(final DataOutputStream out, final Range range) throws IOException {
+        out.writeBoolean(range != null);
+        if (range != null) {
+            out.writeInt(range.getLineStart());
+            out.writeInt(range.getPositionStart());
+            out.writeInt(range.getLineStop());
+            out.writeInt(range.getPositionStop());
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            final var bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private PomModelCache() {
+        // block default constructor
+    }
+}
@@ -27,11 +27,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
 import org.xml.sax.SAXException;
 
 import bje.buildtools.dependency.explorer.data.Artifact;
@@ -42,12 +44,17 @@ import bje.buildtools.dependency.explorer.data.FiledRange;
 import bje.buildtools.dependency.explorer.license.LicenseDefinition;
 import bje.buildtools.dependency.explorer.license.LicenseIdentity;
 import bje.buildtools.dependency.explorer.license.LicenseModel;
-import bje.buildtools.dependency.explorer.util.Utils;
+import bje.buildtools.dependency.explorer.maven.PomModel.Declaration;
 import bje.toolbox.xml.Data;
+import bje.toolbox.xml.Projection;
+import bje.toolbox.xml.SAXUtils;
+import bje.toolbox.xml.SAXUtils.DocumentHandler;
+import bje.toolbox.xml.SAXUtils.Parsed;
 import bje.toolbox.xml.XMLMap;
 import bje.toolbox.xml.XMLMapper;
 import bje.toolbox.xml.XMLMappingHandler;
 import bje.toolbox.xml.XMLMultiMappingHandler;
+import bje.toolbox.xml.XMLParsers;
 
 public class PomParser {
     @FunctionalInterface
@@ -55,7 +62,7 @@ public class PomParser {
         Dependency add(final Artifact artifact, final boolean management);
     }
 
-    public static class ArtifactMapper implements XMLMapper {
+    public static class ArtifactMapper {
         private final ArtifactAdder adder;
         private final SimpleArtifactAdder effectiveAdder;
         protected Pom file;
@@ -69,26 +76,25 @@ public class PomParser {
             effectiveAdder = anEffectiveAdder;
         }
 
-        @Override
-        public void map(final XMLMap map) {
-            final var optional = map.get(OPTIONAL);
-            if (Boolean.TRUE.equals(Boolean.valueOf(optional))) {
+        public void map(final Declaration declaration) {
+            if (Boolean.TRUE.equals(Boolean.valueOf(declaration.getOptional()))) {
                 return;
             }
-            final var groupId = map.get(GROUP_ID);
-            final var artifactId = map.get(ARTIFACT_ID);
-            final var version = map.get(VERSION);
-            final var ptype = map.get(TYPE);
+            final var groupId = declaration.getGroupId();
+            final var artifactId = declaration.getArtifactId();
+            final var version = declaration.getVersion();
             final var art = new Artifact(groupId, artifactId, version);
-            art.setType(ptype);
-            final var scope = map.get("/scope");
+            art.setType(declaration.getType());
+            final var scope = declaration.getScope();
             if (scope != null) {
                 art.setScope(scope);
             }
-            art.setRange(new FiledRange(file.getComponent(), map.getRange(VERSION), version));
-            if (version != null && version.startsWith("${")) {
+            art.setRange(new FiledRange(file.getComponent(), declaration.getVersionData()));
+            if (version != null && version.contains("${")) {
                 art.setEffectiveVersion(file.resolveProperty(version));
-                art.setPropertyName(version);
+                if (version.startsWith("${")) {
+                    art.setPropertyName(version);
+                }
             } else if (version == null && !type.isManaged()) {
                 final var mdef = file.getAnyDependency(groupId, artifactId);
                 art.setEffectiveVersion(mdef.getEffectiveVersion());
@@ -103,6 +109,12 @@ public class PomParser {
                 effectiveAdder.add(art);
             }
         }
+
+        public void mapAll(final List<Declaration> declarations) {
+            for (final Declaration declaration : declarations) {
+                map(declaration);
+            }
+        }
     }
 
     public static class FirstParse {
@@ -148,17 +160,16 @@ public class PomParser {
 
     public static class PropertyMapper implements XMLMapper {
 
-        protected Pom file;
+        protected PomModel model;
 
-        public PropertyMapper(final Pom aFile) {
-            file = aFile;
+        public PropertyMapper(final PomModel aModel) {
+            model = aModel;
         }
 
         @Override
         public void map(final XMLMap map) {
             for (final Entry<String, Data> entry : map.entrySet()) {
-                file.addPropertyLocation(entry.getKey().substring(1),
-                        new FiledRange(file.getComponent(), entry.getValue().getRange(), entry.getValue().getText()));
+                model.addProperty(entry.getKey().substring(1), entry.getValue());
             }
         }
 
@@ -172,69 +183,89 @@ public class PomParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(PomParser.class);
     private static final String ARTIFACT_ID = "/artifactId";
     private static final String GROUP_ID = "/groupId";
-    private static final String OPTIONAL = "/optional";
-    private static final String TYPE = "/type";
 
     private static final String VERSION = "/version";
 
-    public static FirstParse firstParse(final Pom file)
-            throws SAXException, IOException, ParserConfigurationException {
+    public static FirstParse firstParse(final Pom file, final PomModel model) {
         final var fp = new FirstParse();
-        final var saxParser = Utils.getSAXParser();
-        final var parentParser = new XMLMappingHandler(m -> {
-            final var groupId = m.get(GROUP_ID);
-            final var artifactId = m.get(ARTIFACT_ID);
-            final var version = m.get(VERSION);
-            fp.setPOMParent(groupId, artifactId, version);
-        }, "/project/parent");
-        final var artifactParser = new XMLMappingHandler(m -> {
-            fp.setGroupId(m.get(GROUP_ID));
-            fp.setArtifactId(m.get(ARTIFACT_ID));
-            fp.setVersion(m.get(VERSION));
-        }, "/project");
-        final var propParser = new XMLMappingHandler(new PropertyMapper(file), "/project/properties");
-        final var handler = new XMLMultiMappingHandler(parentParser, propParser, artifactParser);
-        try (final var is = file.getComponent().inputStream()) {
-            saxParser.parse(is, handler);
+        if (model.hasParent()) {
+            fp.setPOMParent(model.getParentGroupId(), model.getParentArtifactId(), model.getParentVersion());
+        }
+        fp.setGroupId(model.getGroupId());
+        fp.setArtifactId(model.getArtifactId());
+        fp.setVersion(model.getVersion());
+        for (final PomModel.Property property : model.getProperties()) {
+            file.addPropertyLocation(property.getName(), new FiledRange(file.getComponent(), property.getData()));
         }
         return fp;
     }
 
     public static void fullParse(final Pom file, final LicenseModel model)
             throws SAXException, IOException, ParserConfigurationException {
-        final var fp = firstParse(file);
+        final var pomModel = parse(file.getComponent());
+        final var fp = firstParse(file, pomModel);
         file.fill(fp);
-        secondParse(file, true);
-        thirdParse(file, model, true);
+        secondParse(file, pomModel, true);
+        thirdParse(file, pomModel, model, true);
     }
 
-    public static void secondParse(final Pom file, final boolean parsePlugin)
-            throws SAXException, IOException, ParserConfigurationException {
-        final var saxParser = Utils.getSAXParser();
-        final var moduleParser = new XMLMappingHandler(n -> file.addModule(n.get("")), "/project/modules/module");
-        final var depMgmtParser = new XMLMappingHandler(new ArtifactMapper(file, DependencyType.DEPENDENCY_MANAGEMENT,
-                file::addDependency, file::addEffectiveDependency),
+    private static XMLMultiMappingHandler handler(final PomModel model) {
+        final var text = Projection.withoutRanges("");
+        final var parentParser = new XMLMappingHandler(
+                m -> model.setParent(m.get(GROUP_ID), m.get(ARTIFACT_ID), m.get(VERSION)), "/project/parent",
+                Projection.withoutRanges(GROUP_ID, ARTIFACT_ID, VERSION));
+        final var groupIdParser = new XMLMappingHandler(m -> model.setGroupId(m.get("")), "/project/groupId", text);
+        final var artifactIdParser = new XMLMappingHandler(m -> model.setArtifactId(m.get("")),
+                "/project/artifactId", text);
+        final var versionParser = new XMLMappingHandler(m -> model.setVersion(m.get("")), "/project/version", text);
+        final var propParser = new XMLMappingHandler(new PropertyMapper(model), "/project/properties");
+        final var moduleParser = new XMLMappingHandler(m -> model.addModule(m.get("")), "/project/modules/module",
+                text);
+        final var depMgmtParser = new DeclarationBinding(model::addDependencyManagement,
                 "/project/dependencyManagement/dependencies/dependency");
-        var handler = new XMLMultiMappingHandler(depMgmtParser, moduleParser);
-        if (parsePlugin) {
-            final var pluginMgmtParser = new XMLMappingHandler(
-                    new ArtifactMapper(file, DependencyType.PLUGIN_MANAGEMENT, file::addPlugin, a -> {
-                    }), "/project/build/pluginManagement/plugins/plugin");
-            handler = new XMLMultiMappingHandler(depMgmtParser, pluginMgmtParser, moduleParser);
+        final var pluginMgmtParser = new DeclarationBinding(model::addPluginManagement,
+                "/project/build/pluginManagement/plugins/plugin");
+        final var licenseParser = new XMLMappingHandler(m -> model.addLicense(m.get("/name")),
+                "/project/licenses/license", Projection.withoutRanges("/name"));
+        final var depParser = new DeclarationBinding(model::addDependency, "/project/dependencies/dependency");
+        final var pluginParser = new DeclarationBinding(model::addPlugin, "/project/build/plugins/plugin");
+        return new XMLMultiMappingHandler(parentParser, groupIdParser, artifactIdParser, versionParser, propParser,
+                moduleParser, depMgmtParser, pluginMgmtParser, licenseParser, depParser, pluginParser);
+    }
+
+    public static PomModel parse(final InputFile component)
+            throws SAXException, IOException, ParserConfigurationException {
+        final var model = new PomModel();
+        try (final var is = component.inputStream()) {
+            XMLParsers.parse(is, handler(model));
         }
-        try (final var is = file.getComponent().inputStream()) {
-            saxParser.parse(is, handler);
+        return model;
+    }
+
+    public static List<Parsed<PomModel>> parseAll(final List<InputFile> components, final Executor executor) {
+        return SAXUtils.parseAll(components, InputFile::inputStream, () -> {
+            final var model = new PomModel();
+            return new DocumentHandler<>(handler(model), () -> model);
+        }, executor);
+    }
+
+    public static void secondParse(final Pom file, final PomModel model, final boolean parsePlugin) {
+        model.getModules().forEach(file::addModule);
+        new ArtifactMapper(file, DependencyType.DEPENDENCY_MANAGEMENT, file::addDependency,
+                file::addEffectiveDependency).mapAll(model.getDependencyManagement());
+        if (parsePlugin) {
+            new ArtifactMapper(file, DependencyType.PLUGIN_MANAGEMENT, file::addPlugin, a -> {
+            }).mapAll(model.getPluginManagement());
         }
     }
 
-    public static void thirdParse(final Pom file, final LicenseModel model, final boolean parsePlugin)
-            throws SAXException, IOException, ParserConfigurationException {
-        final var saxParser = Utils.getSAXParser();
+    public static void thirdParse(final Pom file, final PomModel pomModel, final LicenseModel model,
+            final boolean parsePlugin) {
         final List<LicenseIdentity> licences = new ArrayList<>();
-        final var licenseParser = new XMLMappingHandler(n -> {
-            var g = n.get("/name");
+        for (final String name : pomModel.getLicenses()) {
+            var g = name;
             if (g != null && !g.isEmpty()) {
-                if (g.startsWith("${")) {
+                if (g.contains("${")) {
                     final var gg = file.resolveProperty(g);
                     LOGGER.warn("Resolve property for license {} -> {}", g, gg);
                     g = gg;
@@ -246,19 +277,12 @@ public class PomParser {
                     LOGGER.warn("No license found for {}", g);
                 }
             }
-        }, "/project/licenses/license");
-        final var depParser = new XMLMappingHandler(
-                new ArtifactMapper(file, DependencyType.DEPENDENCY, file::addDependency, file::addEffectiveDependency),
-                "/project/dependencies/dependency");
-        var handler = new XMLMultiMappingHandler(licenseParser, depParser);
-        if (parsePlugin) {
-            final var pluginParser = new XMLMappingHandler(
-                    new ArtifactMapper(file, DependencyType.PLUGIN, file::addPlugin, a -> {
-                    }), "/project/build/plugins/plugin");
-            handler = new XMLMultiMappingHandler(licenseParser, depParser, pluginParser);
         }
-        try (final var is = file.getComponent().inputStream()) {
-            saxParser.parse(is, handler);
+        new ArtifactMapper(file, DependencyType.DEPENDENCY, file::addDependency, file::addEffectiveDependency)
+                .mapAll(pomModel.getDependencies());
+        if (parsePlugin) {
+            new ArtifactMapper(file, DependencyType.PLUGIN, file::addPlugin, a -> {
+            }).mapAll(pomModel.getPlugins());
         }
         file.getRoot().setLicenses(LicenseDefinition.of(licences));
     }
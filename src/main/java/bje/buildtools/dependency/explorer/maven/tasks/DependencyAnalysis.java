@@ -33,8 +33,10 @@ import org.jsoup.select.Elements;
 
 import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.filter.Filter;
 import bje.buildtools.dependency.explorer.maven.MavenExecutor;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 
 public class DependencyAnalysis {
     public interface ArtifactUse {
@@ -48,18 +50,20 @@ public class DependencyAnalysis {
 
     public static boolean parse(final Path file, final Pom pom, final ExplorationConfiguration config)
             throws IOException {
-        final var document = Jsoup.parse(file.toFile());
+        final var document = Jsoup.parse(FileContentCache.get(file).inputStream(), null, file.toUri().toString());
+        final var exclusions = config.exclusionFilter;
         var found = false;
-        found |= parseArray(document, pom::addEffectiveDependency, "a#Used_and_Declared_Dependencies",
+        found |= parseArray(document, exclusions, pom::addEffectiveDependency, "a#Used_and_Declared_Dependencies",
                 "a[name=\"Used_and_declared_dependencies\"]");
-        found |= parseArray(document, pom::addUndeclaredDependency, "a#Used_but_Undeclared_Dependencies",
+        found |= parseArray(document, exclusions, pom::addUndeclaredDependency, "a#Used_but_Undeclared_Dependencies",
                 "a[name=\"Used_but_undeclared_dependencies\"]");
-        found |= parseArray(document, pom::addUnusedDependency, "a#Unused_but_Declared_Dependencies",
+        found |= parseArray(document, exclusions, pom::addUnusedDependency, "a#Unused_but_Declared_Dependencies",
                 "a[name=\"Unused_but_declared_dependencies\"]");
         return found;
     }
 
-    private static boolean parseArray(final Document document, final ArtifactUse use, final String... tags) {
+    private static boolean parseArray(final Document document, final Filter exclusionFilter, final ArtifactUse use,
+            final String... tags) {
         var done = false;
         for (final String tag : tags) {
             final var e = document.select(tag);
@@ -73,13 +77,13 @@ public class DependencyAnalysis {
                 tables = p == null ? new Elements() : p.getElementsByTag("table");
             }
             if (!tables.isEmpty()) {
-                done |= readTable(use, tables.get(0));
+                done |= readTable(use, tables.get(0), exclusionFilter);
             }
         }
         return done;
     }
 
-    private static boolean readTable(final ArtifactUse use, final Element table) {
+    private static boolean readTable(final ArtifactUse use, final Element table, final Filter exclusionFilter) {
         var done = false;
         final var rows = table.select("tr");
         final var length = rows.size();
@@ -88,6 +92,10 @@ public class DependencyAnalysis {
             final var cols = row.select("td");
             final var groupId = cols.get(0).text();
             final var artifactId = cols.get(1).text();
+            done = true;
+            if (exclusionFilter.isInFilter(groupId, artifactId)) {
+                continue;
+            }
             final var version = cols.get(2).text();
             final var scope = cols.get(3).text();
             final var type = cols.get(5).text();
@@ -95,7 +103,6 @@ public class DependencyAnalysis {
             artifact.setScope(scope);
             artifact.setType(type);
             use.set(artifact);
-            done = true;
         }
         return done;
     }
@@ -24,7 +24,6 @@
 package bje.buildtools.dependency.explorer.maven.tasks;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.TreeMap;
@@ -33,7 +32,9 @@ import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.maven.MavenExecutor;
 import bje.buildtools.dependency.explorer.data.Dependency;
+import bje.buildtools.dependency.explorer.filter.Filter;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 
 public class DependencyTree {
     private static final int GROUPID = 0;
@@ -59,10 +60,14 @@ public class DependencyTree {
         return 0;
     }
 
-    private static Dependency getDependency(final Pom pom, final Dependency previous, final String gav) {
+    private static Dependency getDependency(final Pom pom, final Dependency previous, final String gav,
+            final Filter exclusionFilter) {
         final var d = gav.split(":");
         final var group = d[GROUPID];
         final var artifact = d[ARTIFACTID];
+        if (exclusionFilter.isInFilter(group, artifact)) {
+            return null;
+        }
         final var version = d.length > SCOPE_CLASSIFIER ? d[VERSION_CLASSIFIER] : d[VERSION];
         final var def = pom.addDependency(new Artifact(group, artifact, version), false);
         def.setType(d[TYPE]);
@@ -75,22 +80,29 @@ public class DependencyTree {
     public static boolean parse(final Path file, final Pom pom, final ExplorationConfiguration config)
             throws IOException {
         var found = false;
-        final var lines = Files.readAllLines(file);
+        final var lines = FileContentCache.get(file).readLines();
         final Map<Integer, Dependency> stack = new TreeMap<>();
         stack.put(0, pom.getRoot());
+        // level of an excluded dependency, its subtree is skipped with it
+        var excluded = Integer.MAX_VALUE;
         for (final var line : lines) {
             var l = line.replace("   ", " ");
             l = l.replace("+- ", " ");
             l = l.replace("|  ", " ");
             l = l.replace("\\- ", " ");
             final var level = computeLevel(l);
-            if (level <= 0) {
+            if (level <= 0 || level > excluded) {
                 continue;
             }
+            excluded = Integer.MAX_VALUE;
             final var gav = l.substring(level);
             final var previous = stack.get(level - 1);
-            final var dependency = getDependency(pom, previous, gav);
-            stack.put(level, dependency);
+            final var dependency = getDependency(pom, previous, gav, config.exclusionFilter);
+            if (dependency == null) {
+                excluded = level;
+            } else {
+                stack.put(level, dependency);
+            }
             found = true;
         }
         return found;
@@ -36,9 +36,11 @@ import bje.buildtools.dependency.explorer.ExplorerSensor;
 import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.data.Scope;
+import bje.buildtools.dependency.explorer.filter.Filter;
 import bje.buildtools.dependency.explorer.license.LicenseDefinition;
 import bje.buildtools.dependency.explorer.maven.MavenExecutor;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 
 public class ProjectInfoDependencies {
     public static void analyse(final MavenExecutor executor) {
@@ -48,17 +50,19 @@ public class ProjectInfoDependencies {
 
     public static boolean parse(final Path file, final Pom pom, final ExplorationConfiguration config)
             throws IOException {
-        final var document = Jsoup.parse(file.toFile());
+        final var document = Jsoup.parse(FileContentCache.get(file).inputStream(), null, file.toUri().toString());
         var found = false;
         for (final String s : Arrays.asList("Project_Dependencies_", "Project_Transitive_Dependencies_")) {
             for (final Scope scope : Scope.values()) {
-                found |= parseArray(pom, document, "a#" + s + scope.name().toLowerCase(), scope);
+                found |= parseArray(pom, document, "a#" + s + scope.name().toLowerCase(), scope,
+                        config.exclusionFilter);
             }
         }
         return found;
     }
 
-    private static boolean parseArray(final Pom pom, final Document document, final String tag, final Scope scope) {
+    private static boolean parseArray(final Pom pom, final Document document, final String tag, final Scope scope,
+            final Filter exclusionFilter) {
         final var e = document.select(tag);
         if (e.isEmpty()) {
             return false;
@@ -67,12 +71,13 @@ public class ProjectInfoDependencies {
         final var p = e.get(0).parent();
         final var tables = p == null ? new Elements() : p.getElementsByTag("table");
         if (!tables.isEmpty()) {
-            done |= parseArray(pom, scope, tables.get(0));
+            done |= parseArray(pom, scope, tables.get(0), exclusionFilter);
         }
         return done;
     }
 
-    private static boolean parseArray(final Pom pom, final Scope scope, final Element table) {
+    private static boolean parseArray(final Pom pom, final Scope scope, final Element table,
+            final Filter exclusionFilter) {
         var done = false;
         final var rows = table.select("tr");
         final var length = rows.size();
@@ -81,6 +86,10 @@ public class ProjectInfoDependencies {
             final var cols = row.select("td");
             final var groupId = cols.get(0).text();
             final var artifactId = cols.get(1).text();
+            done = true;
+            if (exclusionFilter.isInFilter(groupId, artifactId)) {
+                continue;
+            }
             final var n = cols.size() == 5 ? 0 : 1;
             final var version = cols.get(2).text();
             final var type = cols.get(3 + n).text();
@@ -93,7 +102,6 @@ public class ProjectInfoDependencies {
             if (def != null && li != null && !li.isEmpty()) {
                 def.setLicenses(new LicenseDefinition(licenses, li));
             }
-            done = true;
         }
         return done;
     }
@@ -33,8 +33,10 @@ import org.jsoup.nodes.Document;
 
 import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.filter.Filter;
 import bje.buildtools.dependency.explorer.maven.MavenExecutor;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 
 public class ProjectInfoDependencyConvergence {
     public static void analyse(final MavenExecutor executor) {
@@ -44,11 +46,11 @@ public class ProjectInfoDependencyConvergence {
 
     public static boolean parse(final Path file, final Pom pom, final ExplorationConfiguration config)
             throws IOException {
-        final var document = Jsoup.parse(file.toFile());
-        return parseArray(pom, document);
+        final var document = Jsoup.parse(FileContentCache.get(file).inputStream(), null, file.toUri().toString());
+        return parseArray(pom, document, config.exclusionFilter);
     }
 
-    private static boolean parseArray(final Pom pom, final Document document) {
+    private static boolean parseArray(final Pom pom, final Document document, final Filter exclusionFilter) {
         final var e = document.select("section section");
         if (e.isEmpty()) {
             return false;
@@ -56,7 +58,10 @@ public class ProjectInfoDependencyConvergence {
         var done = false;
         final var size = e.size();
         for (var j = 0; j < size; ++j) {
-            final var ga = e.get(j).getElementsByTag("h3").text();
+            final var ga = e.get(j).getElementsByTag("h3").text().split(":");
+            if (ga.length > 1 && exclusionFilter.isInFilter(ga[0], ga[1])) {
+                continue;
+            }
             final var tables = e.get(j).select("table table");
             final var table = tables.get(0);
             final var rows = table.select("tr");
@@ -71,8 +76,7 @@ public class ProjectInfoDependencyConvergence {
                 }
             }
             if (!versions.isEmpty()) {
-                final var r = ga.split(":");
-                pom.addVersionIncompatibility(new Artifact(r[0], r[1], null), versions);
+                pom.addVersionIncompatibility(new Artifact(ga[0], ga[1], null), versions);
                 done = true;
             }
         }
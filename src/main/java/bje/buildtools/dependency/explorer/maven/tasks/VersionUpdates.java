@@ -29,10 +29,10 @@ import static bje.buildtools.dependency.explorer.data.DependencyType.PLUGIN;
 import static bje.buildtools.dependency.explorer.data.DependencyType.PLUGIN_MANAGEMENT;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -45,17 +45,18 @@ import bje.buildtools.dependency.explorer.data.DependencyType;
 import bje.buildtools.dependency.explorer.filter.Filter;
 import bje.buildtools.dependency.explorer.maven.MavenExecutor;
 import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
-import bje.buildtools.dependency.explorer.util.Utils;
-import bje.toolbox.xml.XMLMap;
-import bje.toolbox.xml.XMLMapper;
-import bje.toolbox.xml.XMLMappingHandler;
+import bje.buildtools.dependency.explorer.util.FileContentCache;
 import bje.toolbox.xml.XMLMultiMappingHandler;
+import bje.toolbox.xml.XMLParsers;
+import bje.toolbox.xml.binding.XMLBinding;
+import bje.toolbox.xml.binding.XMLPath;
 
 public class VersionUpdates {
-    private abstract static class AbstractUpdateMapper implements XMLMapper {
+    private abstract static class AbstractUpdateMapper<T> implements Consumer<T> {
         protected final ExplorationConfiguration conf;
         protected final Pom pom;
         protected final DependencyType source;
+        protected boolean used = false;
 
         public AbstractUpdateMapper(final DependencyType aSource, final Pom aPom,
                 final ExplorationConfiguration aConf) {
@@ -63,89 +64,94 @@ public class VersionUpdates {
             conf = aConf;
             pom = aPom;
         }
+
+        public boolean isUsed() {
+            return used;
+        }
     }
 
-    private static class ClassicReportMapper extends AbstractUpdateMapper {
-        private static XMLMapper versionAdder(final String aGroupId, final String anArtifactId,
-                final Filter exclusionFilter, final Pattern aPattern, final List<String> aList) {
-            return m -> {
-                final var version = m.get("").trim();
-                if (aPattern.matcher(version.trim()).find()
-                        && !exclusionFilter.isInFilter(aGroupId, anArtifactId, version)) {
+    @XMLBinding
+    record ClassicReport(@XMLPath("/groupId") String groupId, @XMLPath("/artifactId") String artifactId,
+            @XMLPath("/currentVersion") String currentVersion,
+            @XMLPath("/incrementals/incremental") List<String> incrementals,
+            @XMLPath("/minors/minor") List<String> minors, @XMLPath("/majors/major") List<String> majors) {
+    }
+
+    private static class ClassicReportMapper extends AbstractUpdateMapper<ClassicReport> {
+        private static void addVersions(final String aGroupId, final String anArtifactId,
+                final Filter exclusionFilter, final Pattern aPattern, final List<String> versions,
+                final List<String> aList) {
+            for (final String version : versions) {
+                if (aPattern.matcher(version).find() && !exclusionFilter.isInFilter(aGroupId, anArtifactId, version)) {
                     aList.add(version);
                 }
-            };
+            }
         }
 
-        private boolean used = false;
-
         public ClassicReportMapper(final DependencyType aSource, final Pom aPom,
                 final ExplorationConfiguration aConf) {
             super(aSource, aPom, aConf);
         }
 
-        public boolean isUsed() {
-            return used;
-        }
-
         @Override
-        public void map(final XMLMap map) {
-            final var groupId = map.get("/groupId");
-            final var artifactId = map.get("/artifactId");
-            final var version = map.get("/currentVersion");
-            final var artifact = new Artifact(groupId, artifactId, version);
+        public void accept(final ClassicReport report) {
+            used = true;
+            if (conf.exclusionFilter.isInFilter(report.groupId(), report.artifactId())) {
+                return;
+            }
+            final var artifact = new Artifact(report.groupId(), report.artifactId(), report.currentVersion());
             final List<String> versions = new ArrayList<>();
-            map.forEach("/incrementals/incremental", versionAdder(artifact.getGroupId(), artifact.getArtifactId(),
-                    conf.exclusionFilter, conf.versionsPattern, versions));
-            map.forEach("/minors/minor", versionAdder(artifact.getGroupId(), artifact.getArtifactId(),
-                    conf.exclusionFilter, conf.versionsPattern, versions));
-            map.forEach("/majors/major", versionAdder(artifact.getGroupId(), artifact.getArtifactId(),
-                    conf.exclusionFilter, conf.versionsPattern, versions));
+            addVersions(artifact.getGroupId(), artifact.getArtifactId(), conf.exclusionFilter, conf.versionsPattern,
+                    report.incrementals(), versions);
+            addVersions(artifact.getGroupId(), artifact.getArtifactId(), conf.exclusionFilter, conf.versionsPattern,
+                    report.minors(), versions);
+            addVersions(artifact.getGroupId(), artifact.getArtifactId(), conf.exclusionFilter, conf.versionsPattern,
+                    report.majors(), versions);
             pom.addDependency(artifact, versions, source);
-            used = true;
         }
     }
 
-    private static class PropertyReportMapper extends AbstractUpdateMapper {
+    record PropertyAssociation(@XMLPath("/groupId") String groupId, @XMLPath("/artifactId") String artifactId) {
+    }
+
+    @XMLBinding("/PropertyUpdatesReport/properties/property")
+    record PropertyReport(@XMLPath("/propertyName") String propertyName,
+            @XMLPath("/propertyAssociations/propertyAssociation") List<PropertyAssociation> associations,
+            @XMLPath("/incrementals/incremental") List<String> incrementals,
+            @XMLPath("/minors/minor") List<String> minors, @XMLPath("/majors/major") List<String> majors) {
+    }
 
-        private static XMLMapper simpleVersionAdder(final Pattern aPattern, final List<String> aList) {
-            return m -> {
-                final var version = m.get("");
-                final var matcher = aPattern.matcher(version);
-                if (matcher.find()) {
+    private static class PropertyReportMapper extends AbstractUpdateMapper<PropertyReport> {
+        private static void addVersions(final Pattern aPattern, final List<String> versions,
+                final List<String> aList) {
+            for (final String version : versions) {
+                if (aPattern.matcher(version).find()) {
                     aList.add(version);
                 }
-            };
+            }
         }
 
-        private boolean used = false;
-
         public PropertyReportMapper(final Pom aPom, final ExplorationConfiguration aConf) {
             super(DEPENDENCY, aPom, aConf);
         }
 
-        public boolean isUsed() {
-            return used;
-        }
-
         @Override
-        public void map(final XMLMap map) {
-            final var propertyName = map.get("/propertyName");
-            final List<Artifact> llist = new ArrayList<>();
-            map.forEach("/propertyAssociations/propertyAssociation", m -> {
-                final var groupId = m.get("/groupId");
-                final var artifactId = m.get("/artifactId");
-                final var upd = new Artifact(groupId, artifactId, null);
-                upd.setPropertyName(propertyName);
-                llist.add(upd);
-            });
-            final List<String> versions = new ArrayList<>();
-            map.forEach("/incrementals/incremental", simpleVersionAdder(conf.versionsPattern, versions));
-            map.forEach("/minors/minor", simpleVersionAdder(conf.versionsPattern, versions));
-            map.forEach("/majors/major", simpleVersionAdder(conf.versionsPattern, versions));
-            for (final Artifact upd : llist) {
-                pom.addDependency(upd, versions, source);
+        public void accept(final PropertyReport report) {
+            List<String> versions = null;
+            for (final PropertyAssociation association : report.associations()) {
                 used = true;
+                if (conf.exclusionFilter.isInFilter(association.groupId(), association.artifactId())) {
+                    continue;
+                }
+                if (versions == null) {
+                    versions = new ArrayList<>();
+                    addVersions(conf.versionsPattern, report.incrementals(), versions);
+                    addVersions(conf.versionsPattern, report.minors(), versions);
+                    addVersions(conf.versionsPattern, report.majors(), versions);
+                }
+                final var upd = new Artifact(association.groupId(), association.artifactId(), null);
+                upd.setPropertyName(report.propertyName());
+                pom.addDependency(upd, versions, source);
             }
         }
     }
@@ -165,11 +171,10 @@ public class VersionUpdates {
             final ExplorationConfiguration config) throws SAXException, IOException, ParserConfigurationException {
         final var dependencySaver = new ClassicReportMapper(DEPENDENCY, pom, config);
         final var dependencyManagementSaver = new ClassicReportMapper(DEPENDENCY_MANAGEMENT, pom, config);
-        final var saxParser = Utils.getSAXParser();
-        saxParser.parse(Files.newInputStream(file),
+        XMLParsers.parse(FileContentCache.get(file).inputStream(),
                 new XMLMultiMappingHandler(
-                        new XMLMappingHandler(dependencySaver, "/DependencyUpdatesReport/dependencies/dependency"),
-                        new XMLMappingHandler(dependencyManagementSaver,
+                        new ClassicReportBinding(dependencySaver, "/DependencyUpdatesReport/dependencies/dependency"),
+                        new ClassicReportBinding(dependencyManagementSaver,
                                 "/DependencyUpdatesReport/dependencyManagements/dependencyManagement")));
         return dependencySaver.isUsed() || dependencyManagementSaver.isUsed();
     }
@@ -178,10 +183,9 @@ public class VersionUpdates {
             throws SAXException, IOException, ParserConfigurationException {
         final var pluginSaver = new ClassicReportMapper(PLUGIN, pom, config);
         final var pluginManagementSaver = new ClassicReportMapper(PLUGIN_MANAGEMENT, pom, config);
-        final var saxParser = Utils.getSAXParser();
-        saxParser.parse(Files.newInputStream(file),
-                new XMLMultiMappingHandler(new XMLMappingHandler(pluginSaver, "/PluginUpdatesReport/plugins/plugin"),
-                        new XMLMappingHandler(pluginManagementSaver,
+        XMLParsers.parse(FileContentCache.get(file).inputStream(),
+                new XMLMultiMappingHandler(new ClassicReportBinding(pluginSaver, "/PluginUpdatesReport/plugins/plugin"),
+                        new ClassicReportBinding(pluginManagementSaver,
                                 "/PluginUpdatesReport/pluginManagements/pluginManagement")));
         return pluginSaver.isUsed() || pluginManagementSaver.isUsed();
     }
@@ -189,9 +193,7 @@ public class VersionUpdates {
     public static boolean parseProperties(final Path file, final Pom pom, final ExplorationConfiguration config)
             throws SAXException, IOException, ParserConfigurationException {
         final var propSaver = new PropertyReportMapper(pom, config);
-        final var saxParser = Utils.getSAXParser();
-        saxParser.parse(Files.newInputStream(file),
-                new XMLMappingHandler(propSaver, "/PropertyUpdatesReport/properties/property"));
+        XMLParsers.parse(FileContentCache.get(file).inputStream(), new PropertyReportBinding(propSaver));
         return propSaver.isUsed();
     }
 
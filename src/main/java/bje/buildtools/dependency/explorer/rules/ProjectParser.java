@@ -65,6 +65,8 @@ public class ProjectParser {
     }
 
     private final List<Analyzer> analyzers = new ArrayList<>();
+    // results of the main pom per analyzer, module issues it already reports are dropped
+    private final List<Result> mainResults = new ArrayList<>();
 
     public ProjectParser(final Configuration config) {
         if (!config.getBoolean(COHERENCE_SKIP_PROPERTY).orElse(COHERENCE_SKIP_DEFAULT)) {
@@ -89,6 +91,24 @@ public class ProjectParser {
         }
     }
 
+    // one pom at a time, the main pom first: the caller does not have to keep the modules
+    public List<Result> analyze(final Pom pom) {
+        final List<Result> list = new ArrayList<>();
+        final var main = pom.getType() == POMType.MAIN;
+        for (var i = 0; i < analyzers.size(); i++) {
+            final var r = analyzers.get(i).analyze(pom);
+            if (main) {
+                mainResults.add(r);
+            } else if (r != null && i < mainResults.size()) {
+                removeDuplicate(mainResults.get(i), r);
+            }
+            if (r != null) {
+                list.add(r);
+            }
+        }
+        return list;
+    }
+
     public List<Analyzer> getAnalyzer() {
         return Collections.unmodifiableList(analyzers);
     }
@@ -42,6 +42,7 @@ import bje.buildtools.dependency.explorer.data.ProtoIssue;
 import bje.buildtools.dependency.explorer.data.Result;
 import bje.buildtools.dependency.explorer.data.UpdateLevel;
 import bje.buildtools.dependency.explorer.data.Version;
+import bje.buildtools.dependency.explorer.data.VersionBump;
 import bje.buildtools.dependency.explorer.util.Constants;
 
 public class UpdatesAnalyzer implements Analyzer {
@@ -55,6 +56,11 @@ public class UpdatesAnalyzer implements Analyzer {
             locSeverityMap = smap;
         }
 
+        @Override
+        public VersionBump getBump() {
+            return upd.last == null ? null : VersionBump.of(pom.getVersionLocation(upd.child), upd.last.getText());
+        }
+
         @Override
         public String getDescription() {
             final var sb = new StringBuilder(512);
@@ -153,7 +159,9 @@ public class UpdatesAnalyzer implements Analyzer {
     @Override
     public Result analyze(final Pom pom) {
         final List<Updates> updates = new ArrayList<>();
-        for (final Dependency child : pom.getRoot().getChildren()) {
+        final var graph = pom.getGraph();
+        for (var k = graph.getChildStart(0); k < graph.getChildStop(0); k++) {
+            final var child = graph.getDependency(graph.getChild(k));
             final var v = child.getUpdatesVersions();
             if (v != null && !v.isEmpty()) {
                 updates.add(new Updates(child, v.first(), v.last()));
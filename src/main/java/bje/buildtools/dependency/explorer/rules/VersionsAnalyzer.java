@@ -29,6 +29,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
@@ -44,16 +45,20 @@ import bje.buildtools.dependency.explorer.data.ProtoIssue;
 import bje.buildtools.dependency.explorer.data.Result;
 import bje.buildtools.dependency.explorer.data.UpdateLevel;
 import bje.buildtools.dependency.explorer.data.Version;
+import bje.buildtools.dependency.explorer.data.VersionBump;
 import bje.buildtools.dependency.explorer.util.Constants;
 import bje.buildtools.dependency.explorer.util.Utils;
 
 public class VersionsAnalyzer implements Analyzer {
     public static class Caller implements Comparable<Caller> {
 
+        // parsed once, comparisons run on it
+        private final Version parsed;
         private final String version;
 
         public Caller(final String baseVersion) {
             version = baseVersion;
+            parsed = baseVersion == null ? null : Version.of(baseVersion);
         }
 
         @Override
@@ -61,9 +66,7 @@ public class VersionsAnalyzer implements Analyzer {
             if (o == null) {
                 return -1;
             }
-            final var v1 = version == null ? null : new Version(version);
-            final var v2 = o.version == null ? null : new Version(o.version);
-            return Utils.compare(v1, v2);
+            return Utils.compare(parsed, o.parsed);
         }
 
         @Override
@@ -90,6 +93,16 @@ public class VersionsAnalyzer implements Analyzer {
             locSeverityMap = sMap;
         }
 
+        // aligns the declaration of the pom on the highest version in use
+        @Override
+        public VersionBump getBump() {
+            final var def = pom.getAnyDependency(upd.ga);
+            if (def == null || upd.callers.isEmpty()) {
+                return null;
+            }
+            return VersionBump.of(pom.getVersionLocation(def), upd.callers.last().version);
+        }
+
         @Override
         public String getDescription() {
             final var sb = new StringBuilder(512);
@@ -176,7 +189,7 @@ public class VersionsAnalyzer implements Analyzer {
     public static class VersionResult {
 
         private final String artifactId;
-        private final Set<Caller> callers = new TreeSet<>();
+        private final NavigableSet<Caller> callers = new TreeSet<>();
         private final String ga;
         private final String groupId;
         private UpdateLevel maxLevel;
@@ -208,7 +221,7 @@ public class VersionsAnalyzer implements Analyzer {
         var maxLevel = UpdateLevel.NONE;
         Version previousVersion = null;
         for (final Caller call : vr.callers) {
-            final var current = new Version(call.version);
+            final var current = Version.of(call.version);
             if (previousVersion != null) {
                 final var level = UpdateLevel.diff(previousVersion, current);
                 maxLevel = maxLevel.max(level);
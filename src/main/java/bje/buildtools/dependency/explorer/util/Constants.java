@@ -31,6 +31,9 @@ public final class Constants {
     public static final String C_SENSOR_NAME = "Dependency-Explorer";
 
     // GENERAL
+    public static final String GENERAL_CACHE_DIRECTORY_PROPERTY = "sonar.dependency.explorer.cache.directory";
+    public static final String GENERAL_HEAP_BUDGET_PROPERTY = "sonar.dependency.explorer.heap.budget";
+    public static final String GENERAL_PATCH_FILE_PROPERTY = "sonar.dependency.explorer.patch.file";
     public static final Boolean GENERAL_PRINT_DEFAULT = Boolean.FALSE;
     public static final String GENERAL_PRINT_PROPERTY = "sonar.dependency.explorer.print";
     public static final Boolean GENERAL_SKIP_BUILD_PLUGIN_DEFAULT = Boolean.TRUE;
@@ -38,6 +41,8 @@ public final class Constants {
     public static final Boolean GENERAL_SKIP_DEFAULT = Boolean.FALSE;
     public static final String GENERAL_SUB_CATEGORY = "General";
     public static final String GENRAL_SKIP_PROPERTY = "sonar.dependency.explorer.skip";
+    public static final String GENERAL_XML_ENGINE_DEFAULT = "SAX";
+    public static final String GENERAL_XML_ENGINE_PROPERTY = "sonar.dependency.explorer.xml.engine";
     
     // FILTERING
     public static final String FILTERING_EXCLUSIONS_LIST_PROPERTY = "sonar.dependency.explorer.list.exclusions";
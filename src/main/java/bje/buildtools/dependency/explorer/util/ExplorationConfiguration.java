@@ -26,11 +26,13 @@ package bje.buildtools.dependency.explorer.util;
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_EXCLUSIONS_LIST_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_ONLY_CLASSIC_VERSION_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.FILTERING_ONLY_CLASSIC_VERSION_PROPERTY;
+import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_CACHE_DIRECTORY_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_BUILD_PLUGIN_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.GENERAL_SKIP_BUILD_PLUGIN_PROPERTY;
 import static bje.buildtools.dependency.explorer.util.Constants.UPDATE_MAVEN_EXECUTABLE_PATH_DEFAULT;
 import static bje.buildtools.dependency.explorer.util.Constants.UPDATE_MAVEN_EXECUTABLE_PATH_PROPERTY;
 
+import java.nio.file.Path;
 import java.util.regex.Pattern;
 
 import org.sonar.api.config.Configuration;
@@ -52,12 +54,16 @@ public class ExplorationConfiguration {
         final boolean onlyMainVersions = aConfiguration.getBoolean(FILTERING_ONLY_CLASSIC_VERSION_PROPERTY)
                 .orElse(FILTERING_ONLY_CLASSIC_VERSION_DEFAULT);
         final Filter filter = new FilterList(aConfiguration.get(FILTERING_EXCLUSIONS_LIST_PROPERTY).orElse(null));
+        final var cache = aConfiguration.get(GENERAL_CACHE_DIRECTORY_PROPERTY).filter(s -> !s.isBlank()).map(Path::of)
+                .orElse(null);
         if (onlyMainVersions) {
-            return new ExplorationConfiguration(CLASSIC_PATTERN, filter, skipPlugin, mvn, true);
+            return new ExplorationConfiguration(CLASSIC_PATTERN, filter, skipPlugin, mvn, true, cache);
         }
-        return new ExplorationConfiguration(ALL_PATTERN, filter, skipPlugin, mvn, true);
+        return new ExplorationConfiguration(ALL_PATTERN, filter, skipPlugin, mvn, true, cache);
     }
 
+    public final Path cacheDirectory;
+
     public final boolean debug;
     public final Filter exclusionFilter;
     public final String mavenExecutablePath;
@@ -66,11 +72,17 @@ public class ExplorationConfiguration {
 
     public ExplorationConfiguration(final Pattern aVersionPattern, final Filter filter, final boolean skipPlugin,
             final String mavenExecutable, final boolean isDebug) {
+        this(aVersionPattern, filter, skipPlugin, mavenExecutable, isDebug, null);
+    }
+
+    public ExplorationConfiguration(final Pattern aVersionPattern, final Filter filter, final boolean skipPlugin,
+            final String mavenExecutable, final boolean isDebug, final Path aCacheDirectory) {
         versionsPattern = aVersionPattern;
         exclusionFilter = filter;
         parsePlugin = !skipPlugin;
         mavenExecutablePath = mavenExecutable;
         debug = isDebug;
+        cacheDirectory = aCacheDirectory;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FileContentCache {
+    public static class Content {
+        private final ByteBuffer bytes;
+        private int lines = -1;
+        private String md5;
+
+        private Content(final ByteBuffer aBytes) {
+            bytes = aBytes.asReadOnlyBuffer();
+        }
+
+        public InputStream inputStream() {
+            return new ContentInputStream(bytes.duplicate());
+        }
+
+        public synchronized int lines() {
+            if (lines < 0) {
+                final var buffer = bytes.duplicate();
+                var count = 0;
+                var previous = 0;
+                while (buffer.hasRemaining()) {
+                    final var b = buffer.get();
+                    if (b == '\n' && previous != '\r' || b == '\r') {
+                        ++count;
+                    }
+                    previous = b;
+                }
+                if (bytes.limit() > 0 && previous != '\n' && previous != '\r') {
+                    ++count;
+                }
+                lines = count;
+            }
+            return lines;
+        }
+
+        public synchronized String md5Hash() throws NoSuchAlgorithmException {
+            if (md5 == null) {
+                final var digester = MessageDigest.getInstance("MD5");
+                digester.update(bytes.duplicate());
+                md5 = Utils.bytesToHex(digester.digest());
+            }
+            return md5;
+        }
+
+        public List<String> readLines() {
+            return text().lines().toList();
+        }
+
+        public String text() {
+            return StandardCharsets.UTF_8.decode(bytes.duplicate()).toString();
+        }
+    }
+
+    private static class ContentInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ContentInputStream(final ByteBuffer aBuffer) {
+            buffer = aBuffer;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final var n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final var s = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + s);
+            return s;
+        }
+    }
+
+    private static final Map<Path, Content> CONTENTS = new ConcurrentHashMap<>();
+    // files above this size are memory mapped instead of copied on the heap
+    private static final long MAPPING_THRESHOLD = 1024L * 1024L;
+
+    public static void clear() {
+        CONTENTS.clear();
+    }
+
+    public static Content get(final Path file) throws IOException {
+        final var key = file.toAbsolutePath().normalize();
+        final var content = CONTENTS.get(key);
+        if (content != null) {
+            return content;
+        }
+        final var loaded = load(key);
+        final var previous = CONTENTS.putIfAbsent(key, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    private static Content load(final Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (size > MAPPING_THRESHOLD) {
+                return new Content(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            final var buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until full
+            }
+            buffer.flip();
+            return new Content(buffer);
+        }
+    }
+
+    public static void release(final Path file) {
+        CONTENTS.remove(file.toAbsolutePath().normalize());
+    }
+
+    private FileContentCache() {
+        // block default constructor
+    }
+}
@@ -31,7 +31,6 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 import org.sonar.api.batch.fs.InputFile;
@@ -110,7 +109,7 @@ public class InputFileUtils {
 
             @Override
             public String contents() throws IOException {
-                return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                return FileContentCache.get(file).text();
             }
 
             @Override
@@ -125,7 +124,7 @@ public class InputFileUtils {
 
             @Override
             public InputStream inputStream() throws IOException {
-                return Files.newInputStream(file);
+                return FileContentCache.get(file).inputStream();
             }
 
             @Override
@@ -150,8 +149,8 @@ public class InputFileUtils {
 
             @Override
             public int lines() {
-                try (final var s = Files.lines(file, StandardCharsets.UTF_8)) {
-                    return (int) s.count();
+                try {
+                    return FileContentCache.get(file).lines();
                 } catch (final IOException e) {
                     return 0;
                 }
@@ -160,10 +159,7 @@ public class InputFileUtils {
             @Override
             public String md5Hash() {
                 try {
-                    final var content = Files.readAllBytes(file);
-                    final var digester = MessageDigest.getInstance("MD5");
-                    final var digest = digester.digest(content);
-                    return Utils.bytesToHex(digest);
+                    return FileContentCache.get(file).md5Hash();
                 } catch (final IOException | NoSuchAlgorithmException e) {
                     return null;
                 }
@@ -23,30 +23,49 @@
  */
 package bje.buildtools.dependency.explorer.util;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import bje.buildtools.dependency.explorer.data.Dependency;
-import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.data.ProtoIssue;
 import bje.buildtools.dependency.explorer.data.Result;
 import bje.buildtools.dependency.explorer.license.LicenseIdentity;
 
-public class JsonReportGenerator {
+public class JsonReportGenerator implements Closeable {
+    private static final String DEPENDENCIES = "dependencies";
+    private static final String ISSUES = "issues";
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonReportGenerator.class);
+
     private static void add(final JSONObject obj, final String key, final Object value) {
         if (value != null) {
             obj.put(key, value.toString());
         }
     }
 
+    private static void delete(final Path aPath) {
+        try {
+            Files.deleteIfExists(aPath);
+        } catch (final IOException e) {
+            LOGGER.debug("Cannot delete {}", aPath, e);
+        }
+    }
+
     private static JSONObject fillDependency(final String name, final Dependency definition, final int level,
             final List<Result> results) {
         final var obj = new JSONObject();
@@ -78,22 +97,41 @@ public class JsonReportGenerator {
         return obj;
     }
 
-    private final Map<String, JSONArray> dependenciesObj = new TreeMap<>();
-    private final Map<String, JSONArray> issuesObj = new TreeMap<>();
+    // used heap in bytes above which module fragments go to disk, negative keeps everything in memory
+    private final long budget;
+    // dependencies and issues of each module still in memory
+    private final Map<String, JSONObject> fragments = new HashMap<>();
+    // module names only, so that finished poms can be collected
+    private final Set<String> names = new TreeSet<>();
+    private Path spillDirectory;
+    private final Map<String, Path> spilled = new HashMap<>();
 
-    private final Set<Pom> names = new TreeSet<>();
+    public JsonReportGenerator() {
+        this(-1);
+    }
 
+    public JsonReportGenerator(final long aBudget) {
+        budget = aBudget;
+    }
+
+    // the fragments of the modules in the results are complete once appended, they may go to disk
     public void append(final List<Result> results) {
         Collections.sort(results);
+        final Set<String> touched = new TreeSet<>();
         for (final Result issues : results) {
             final var pom = issues.getPom();
-            if (!names.contains(pom)) {
-                names.add(pom);
+            final var fragment = fragment(pom.getName());
+            if (names.add(pom.getName())) {
                 final var arr = new JSONArray();
                 arr.put(fillDependency(pom.getName(), pom.getRoot(), 0, results));
-                dependenciesObj.put(pom.getName(), arr);
+                fragment.put(DEPENDENCIES, arr);
+            }
+            touched.add(pom.getName());
+            var array = fragment.optJSONArray(ISSUES);
+            if (array == null) {
+                array = new JSONArray();
+                fragment.put(ISSUES, array);
             }
-            final var array = issuesObj.computeIfAbsent(pom.getName(), n -> new JSONArray());
             for (final ProtoIssue issue : issues) {
                 final var obj = new JSONObject();
                 obj.put("severity", issue.getSeverity().name());
@@ -103,20 +141,73 @@ public class JsonReportGenerator {
                 array.put(obj);
             }
         }
+        for (final String name : touched) {
+            store(name);
+        }
+    }
+
+    // spilled fragments that were never read back
+    @Override
+    public void close() {
+        for (final Path file : spilled.values()) {
+            delete(file);
+        }
+        spilled.clear();
+        if (spillDirectory != null) {
+            delete(spillDirectory);
+            spillDirectory = null;
+        }
+    }
+
+    private JSONObject fragment(final String aName) {
+        final var file = spilled.remove(aName);
+        if (file == null) {
+            return fragments.computeIfAbsent(aName, n -> new JSONObject());
+        }
+        var fragment = new JSONObject();
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            fragment = new JSONObject(new JSONTokener(reader));
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot read report of module {} back from {}", aName, file, e);
+        } finally {
+            delete(file);
+        }
+        fragments.put(aName, fragment);
+        return fragment;
     }
 
     public List<JSONObject> generate() {
         final List<JSONObject> list = new ArrayList<>();
-        for (final Pom pom : names) {
-            final var name = pom.getName();
+        for (final String name : names) {
             final var obj = new JSONObject();
 
             final var o = new JSONObject();
-            o.put(name, dependenciesObj.get(name));
-            obj.put("dependencies", o);
+            o.put(name, fragment(name).opt(DEPENDENCIES));
+            obj.put(DEPENDENCIES, o);
             list.add(obj);
         }
+        close();
         return list;
     }
 
+    private void store(final String aName) {
+        final var runtime = Runtime.getRuntime();
+        if (budget < 0 || runtime.totalMemory() - runtime.freeMemory() <= budget) {
+            return;
+        }
+        try {
+            if (spillDirectory == null) {
+                spillDirectory = Files.createTempDirectory("dependency-explorer");
+            }
+            final var file = Files.createTempFile(spillDirectory, "module", ".json");
+            try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                fragments.get(aName).write(writer);
+            }
+            fragments.remove(aName);
+            spilled.put(aName, file);
+            LOGGER.debug("Report of module {} kept in {}", aName, file);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot keep report of module {} on disk, it stays in memory", aName, e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+
+import bje.buildtools.dependency.explorer.data.ProtoIssue;
+import bje.buildtools.dependency.explorer.data.Result;
+import bje.buildtools.dependency.explorer.data.Version;
+import bje.toolbox.xml.PieceTable;
+import bje.toolbox.xml.Range;
+
+// Collects the version bumps proposed by the issues and writes them as a unified diff of the reactor poms
+public class PatchGenerator {
+    private static class FileBumps {
+        private final InputFile file;
+        private final Map<Range, String> versions = new TreeMap<>();
+
+        FileBumps(final InputFile aFile) {
+            file = aFile;
+        }
+    }
+
+    private static final int CONTEXT = 3;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PatchGenerator.class);
+
+    private static void add(final FileBumps aFile, final Range aRange, final String aVersion) {
+        final var current = aFile.versions.get(aRange);
+        if (current == null || Version.of(current).compareTo(Version.of(aVersion)) < 0) {
+            aFile.versions.put(aRange, aVersion);
+        }
+    }
+
+    private final Map<String, FileBumps> files = new TreeMap<>();
+
+    public void append(final List<Result> results) {
+        for (final Result result : results) {
+            for (final ProtoIssue issue : result) {
+                final var bump = issue.getBump();
+                if (bump != null) {
+                    final var file = bump.location().getFile();
+                    add(files.computeIfAbsent(file.uri().toString(), u -> new FileBumps(file)),
+                            bump.location().getRange(), bump.version());
+                }
+            }
+        }
+    }
+
+    // poms outside of the base directory are left alone, paths in the diff are relative to it
+    public void write(final Path aBaseDirectory, final Appendable out) throws IOException {
+        for (final FileBumps bumps : files.values()) {
+            final var relative = aBaseDirectory.relativize(Path.of(bumps.file.uri())).toString().replace('\\', '/');
+            if (relative.startsWith("..")) {
+                LOGGER.debug("Skip version bumps of {}, outside of {}", bumps.file, aBaseDirectory);
+                continue;
+            }
+            final var buffer = new PieceTable(bumps.file.contents());
+            for (final Entry<Range, String> e : bumps.versions.entrySet()) {
+                if (!buffer.replace(e.getKey(), e.getValue())) {
+                    LOGGER.debug("Overlapping version bump {} in {}", e.getKey(), relative);
+                }
+            }
+            buffer.diff("a/" + relative, "b/" + relative, CONTEXT, out);
+        }
+    }
+}
@@ -27,12 +27,6 @@ import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
 
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
-import org.xml.sax.SAXException;
-
 import bje.buildtools.dependency.explorer.data.Scope;
 
 public class Utils {
@@ -91,13 +85,6 @@ public class Utils {
         return sb.toString();
     }
 
-    public static SAXParser getSAXParser() throws ParserConfigurationException, SAXException {
-        final var factory = SAXParserFactory.newInstance();
-        // to be compliant, completely disable DOCTYPE declaration:
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        return factory.newSAXParser();
-    }
-
     public static boolean isEmptyOrNull(final String s) {
         return s == null || s.isEmpty();
     }
@@ -23,16 +23,49 @@
  */
 package bje.toolbox.xml;
 
+import java.util.Objects;
+
 public class Data {
-    private final Range range;
+    private final int location;
+    // released once the range is built
+    private Locations locations;
+    private Range range;
     private final String text;
 
+    public Data(final String aText, final Locations someLocations, final int aLocation) {
+        text = aText;
+        locations = aLocation == Locations.NONE ? null : someLocations;
+        location = aLocation;
+    }
+
     public Data(final String aText, final Range aRange) {
         text = aText;
         range = aRange;
+        locations = null;
+        location = Locations.NONE;
+    }
+
+    // the coordinates are compared where they are stored, no Range is built for it
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof final Data d && Objects.equals(text, d.text)) {
+            if (locations != null && locations == d.locations && location == d.location) {
+                return true;
+            }
+            if (!hasRange() || !d.hasRange()) {
+                return hasRange() == d.hasRange();
+            }
+            return lineStart() == d.lineStart() && positionStart() == d.positionStart()
+                    && lineStop() == d.lineStop() && positionStop() == d.positionStop();
+        }
+        return false;
     }
 
     public Range getRange() {
+        if (range == null && locations != null) {
+            range = locations.get(location);
+            locations = null;
+        }
         return range;
     }
 
@@ -40,9 +73,49 @@ public class Data {
         return text;
     }
 
+    @Override
+    public int hashCode() {
+        var h = Objects.hashCode(text);
+        if (hasRange()) {
+            h = 31 * h + lineStart();
+            h = 31 * h + positionStart();
+            h = 31 * h + lineStop();
+            h = 31 * h + positionStop();
+        }
+        return h;
+    }
+
+    public boolean hasRange() {
+        return range != null || locations != null;
+    }
+
+    private int lineStart() {
+        return range != null ? range.getLineStart() : locations.getLineStart(location);
+    }
+
+    private int lineStop() {
+        return range != null ? range.getLineStop() : locations.getLineStop(location);
+    }
+
     public Data merge(final Data n) {
-        final var r = new Range(range.getLineStart(), range.getPositionStart(), n.range.getLineStop(),
-                n.range.getPositionStop());
+        if (locations != null && locations == n.locations) {
+            return new Data(text + n.text, locations, locations.merge(location, n.location));
+        }
+        if (!hasRange() || !n.hasRange()) {
+            return new Data(text + n.text, null);
+        }
+        final var start = getRange();
+        final var stop = n.getRange();
+        final var r = new Range(start.getLineStart(), start.getPositionStart(), stop.getLineStop(),
+                stop.getPositionStop());
         return new Data(text + n.text, r);
     }
+
+    private int positionStart() {
+        return range != null ? range.getPositionStart() : locations.getPositionStart(location);
+    }
+
+    private int positionStop() {
+        return range != null ? range.getPositionStop() : locations.getPositionStop(location);
+    }
 }
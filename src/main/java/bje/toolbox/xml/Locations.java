@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import java.util.Arrays;
+
+// Locations of a document packed four ints per slot, Range objects are only built on demand.
+public class Locations {
+    public static final int NONE = -1;
+    private static final int SLOT = 4;
+
+    private int size;
+    private int[] values = new int[16 * SLOT];
+
+    public int add(final int aLineStart, final int aPositionStart, final int aLineStop, final int aPositionStop) {
+        if (size + SLOT > values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        final var location = size;
+        values[size++] = aLineStart;
+        values[size++] = aPositionStart;
+        values[size++] = aLineStop;
+        values[size++] = aPositionStop;
+        return location;
+    }
+
+    public Range get(final int location) {
+        return new Range(values[location], values[location + 1], values[location + 2], values[location + 3]);
+    }
+
+    public int getLineStart(final int location) {
+        return values[location];
+    }
+
+    public int getLineStop(final int location) {
+        return values[location + 2];
+    }
+
+    public int getPositionStart(final int location) {
+        return values[location + 1];
+    }
+
+    public int getPositionStop(final int location) {
+        return values[location + 3];
+    }
+
+    // from the start of the first location to the end of the last one
+    public int merge(final int first, final int last) {
+        return add(values[first], values[first + 1], values[last + 2], values[last + 3]);
+    }
+
+    public int size() {
+        return size / SLOT;
+    }
+}
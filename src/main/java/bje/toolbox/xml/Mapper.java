@@ -23,16 +23,11 @@
  */
 package bje.toolbox.xml;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 public class Mapper {
-    private final Map<String, Data> dataMap = new TreeMap<>();
-    private final Map<String, Integer> elementNumber = new HashMap<>();
+    private XMLNode current;
     private boolean isActive = false;
+    private XMLNode root;
     private final XMLMapper storer;
-    private final TagPath tag = new TagPath();
 
     public Mapper(final XMLMapper aSaver) {
         storer = aSaver;
@@ -43,38 +38,34 @@ public class Mapper {
     }
 
     public void newElement() {
-        dataMap.clear();
-        elementNumber.clear();
-        tag.clear();
+        root = new XMLNode("");
+        current = root;
         isActive = true;
     }
 
     public void saveElement() {
-        storer.map(new XMLMap(dataMap));
+        storer.map(new XMLMap(root));
         isActive = false;
     }
 
-    public void setAttribute(final String qName, final String value, final Range range) {
-        dataMap.put(tag.flatten() + ":" + qName, new Data(value, range));
+    public void setAttribute(final String qName, final String value, final Locations locations,
+            final int location) {
+        current.setAttribute(qName, new Data(value, locations, location));
     }
 
     public void setTag(final String qName) {
-        final var i = elementNumber.computeIfAbsent(tag.flatten(qName), q -> 0);
-        tag.set(qName, i);
+        current = current.addChild(qName);
     }
 
-    public void setText(final String string, final Range range) {
+    public void setText(final String string, final Locations locations, final int location) {
         if (!string.trim().isEmpty()) {
-            final var n = new Data(string.trim(), range);
-            dataMap.merge(tag.flatten(), n, Data::merge);
+            current.addText(new Data(string.trim(), locations, location));
         }
     }
 
     public void unsetTag(final String qName) {
-        final var path = tag.flattenPrevious(qName);
-        var i = elementNumber.get(path);
-        tag.unset(qName, i);
-        ++i;
-        elementNumber.put(path, i);
+        if (current != root && current.getName().equalsIgnoreCase(qName)) {
+            current = current.getParent();
+        }
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+// Edit buffer over a parsed document: replacements are kept by original offset and the edited text is
+// assembled from pieces of the original and of the added text in one pass, whatever the number of edits.
+public class PieceTable {
+    private record Edit(int start, int end, int added, int length) {
+    }
+
+    private record Piece(boolean added, int start, int length) {
+    }
+
+    private static void appendLines(final Appendable out, final char aPrefix, final CharSequence aText)
+            throws IOException {
+        var start = 0;
+        while (start < aText.length()) {
+            var end = start;
+            while (end < aText.length() && aText.charAt(end) != '\n') {
+                end++;
+            }
+            out.append(aPrefix).append(aText, start, end).append('\n');
+            if (end == aText.length()) {
+                out.append("\\ No newline at end of file\n");
+            }
+            start = end + 1;
+        }
+    }
+
+    private static int countLines(final CharSequence aText) {
+        var count = 0;
+        for (var i = 0; i < aText.length(); i++) {
+            if (aText.charAt(i) == '\n' || i == aText.length() - 1) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private final StringBuilder added = new StringBuilder();
+    private final TreeMap<Integer, Edit> edits = new TreeMap<>();
+    private final int[] lines;
+    private final String original;
+
+    public PieceTable(final String anOriginal) {
+        original = anOriginal;
+        var count = 1;
+        for (var i = 0; i < original.length(); i++) {
+            if (original.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        lines = new int[count + 1];
+        var line = 1;
+        for (var i = 0; i < original.length(); i++) {
+            if (original.charAt(i) == '\n') {
+                lines[line++] = i + 1;
+            }
+        }
+        lines[count] = original.length();
+    }
+
+    // writes a unified diff of the edits, each hunk surrounded by aContext unchanged lines
+    public void diff(final String anOldName, final String aNewName, final int aContext, final Appendable out)
+            throws IOException {
+        if (edits.isEmpty()) {
+            return;
+        }
+        out.append("--- ").append(anOldName).append('\n');
+        out.append("+++ ").append(aNewName).append('\n');
+        // changed line blocks, edits sharing a line belong to the same block
+        final List<int[]> blocks = new ArrayList<>();
+        for (final Edit edit : edits.values()) {
+            final var first = lineOf(edit.start);
+            final var last = lineOf(Math.max(edit.start, edit.end - 1));
+            final var previous = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+            if (previous != null && first <= previous[1]) {
+                previous[1] = Math.max(previous[1], last);
+            } else {
+                blocks.add(new int[] { first, last });
+            }
+        }
+        var delta = 0;
+        var i = 0;
+        while (i < blocks.size()) {
+            var j = i;
+            while (j + 1 < blocks.size() && blocks.get(j + 1)[0] - blocks.get(j)[1] <= 2 * aContext + 1) {
+                j++;
+            }
+            final var from = Math.max(0, blocks.get(i)[0] - aContext);
+            final var to = Math.min(lineCount() - 1, blocks.get(j)[1] + aContext);
+            final var hunk = new StringBuilder();
+            var oldCount = 0;
+            var newCount = 0;
+            var line = from;
+            for (var k = i; k <= j; k++) {
+                final var block = blocks.get(k);
+                final var before = original.subSequence(lines[line], lines[block[0]]);
+                appendLines(hunk, ' ', before);
+                final var removed = original.subSequence(lines[block[0]], lines[block[1] + 1]);
+                appendLines(hunk, '-', removed);
+                final var inserted = render(lines[block[0]], lines[block[1] + 1]);
+                appendLines(hunk, '+', inserted);
+                oldCount += countLines(before) + countLines(removed);
+                newCount += countLines(before) + countLines(inserted);
+                line = block[1] + 1;
+            }
+            final var after = original.subSequence(lines[line], lines[to + 1]);
+            appendLines(hunk, ' ', after);
+            oldCount += countLines(after);
+            newCount += countLines(after);
+            out.append("@@ -").append(String.valueOf(from + 1)).append(',').append(String.valueOf(oldCount));
+            out.append(" +").append(String.valueOf(from + 1 + delta)).append(',').append(String.valueOf(newCount));
+            out.append(" @@\n").append(hunk);
+            delta += newCount - oldCount;
+            i = j + 1;
+        }
+    }
+
+    public boolean isModified() {
+        return !edits.isEmpty();
+    }
+
+    private int lineCount() {
+        return lines.length - 1;
+    }
+
+    private int lineOf(final int anOffset) {
+        final var i = Arrays.binarySearch(lines, 0, lineCount(), anOffset);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    // same conventions as Range.replace, the stop position of a multi-line range is shifted by the locator
+    private int offset(final int aLine, final int aPosition) {
+        return Math.min(lines[aLine - 1] + aPosition, lines[aLine]);
+    }
+
+    private List<Piece> pieces(final int aStart, final int anEnd) {
+        final List<Piece> pieces = new ArrayList<>();
+        var position = aStart;
+        for (final Edit edit : edits.subMap(aStart, true, anEnd, false).values()) {
+            pieces.add(new Piece(false, position, edit.start - position));
+            pieces.add(new Piece(true, edit.added, edit.length));
+            position = edit.end;
+        }
+        pieces.add(new Piece(false, position, anEnd - position));
+        return pieces;
+    }
+
+    private CharSequence render(final int aStart, final int anEnd) {
+        final var sb = new StringBuilder(anEnd - aStart + 16);
+        for (final Piece piece : pieces(aStart, anEnd)) {
+            sb.append(piece.added ? added : original, piece.start, piece.start + piece.length);
+        }
+        return sb;
+    }
+
+    // false when the range overlaps a previous edit, the buffer is left unchanged
+    public boolean replace(final Range aRange, final String aReplacement) {
+        final var start = offset(aRange.getLineStart(), aRange.getPositionStart() - 1);
+        final var end = aRange.getLineStart() == aRange.getLineStop()
+                ? offset(aRange.getLineStop(), aRange.getPositionStop() - 1)
+                : offset(aRange.getLineStop(), aRange.getPositionStop() + 1);
+        final Entry<Integer, Edit> floor = edits.floorEntry(start);
+        final Entry<Integer, Edit> ceiling = edits.ceilingEntry(start);
+        if (floor != null && floor.getValue().end > start || ceiling != null && ceiling.getKey() < end) {
+            return false;
+        }
+        edits.put(start, new Edit(start, end, added.length(), aReplacement.length()));
+        added.append(aReplacement);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return render(0, original.length()).toString();
+    }
+}
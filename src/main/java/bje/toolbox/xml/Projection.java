@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class Projection {
+    public static final Projection ALL = new Projection(true, true);
+
+    private static Projection compile(final boolean ranges, final String... keys) {
+        final var root = new Projection(ranges, false);
+        for (final String key : keys) {
+            final var slash = key.lastIndexOf('/');
+            final var colon = key.indexOf(':', slash + 1);
+            final var path = colon < 0 ? key : key.substring(0, colon);
+            var current = root;
+            for (final String name : path.split("/")) {
+                if (!name.isEmpty()) {
+                    current = current.children.computeIfAbsent(name, n -> new Projection(ranges, false));
+                }
+            }
+            if (colon < 0) {
+                current.subtree = true;
+            } else {
+                current.attributes.add(key.substring(colon + 1));
+            }
+        }
+        return root;
+    }
+
+    public static Projection of(final String... keys) {
+        return compile(true, keys);
+    }
+
+    public static Projection withoutRanges(final String... keys) {
+        return compile(false, keys);
+    }
+
+    private final Set<String> attributes = new HashSet<>();
+    private final Map<String, Projection> children = new HashMap<>();
+    private final boolean ranges;
+    private boolean subtree;
+
+    private Projection(final boolean withRanges, final boolean isSubtree) {
+        ranges = withRanges;
+        subtree = isSubtree;
+    }
+
+    public Projection child(final String qName) {
+        return subtree ? this : children.get(qName);
+    }
+
+    public boolean needsAttribute(final String qName) {
+        return subtree || attributes.contains(qName);
+    }
+
+    public boolean needsRanges() {
+        return ranges;
+    }
+
+    public boolean needsText() {
+        return subtree;
+    }
+}
@@ -27,21 +27,59 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
-import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParserFactory;
 
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 public class SAXUtils {
+    // handler of one document and the way to read what it built
+    public static class DocumentHandler<T> {
+        private final DefaultHandler handler;
+        private final Supplier<T> result;
+
+        public DocumentHandler(final DefaultHandler aHandler, final Supplier<T> aResult) {
+            handler = aHandler;
+            result = aResult;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Opener<S> {
+        InputStream open(final S source) throws IOException;
+    }
+
+    public static class Parsed<T> {
+        private final SAXReadingException error;
+        private final T value;
+
+        Parsed(final T aValue, final SAXReadingException anError) {
+            value = aValue;
+            error = anError;
+        }
+
+        public SAXReadingException getError() {
+            return error;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
     public static void parse(final InputStream is, final XMLMappingHandler... handlers) {
         try {
-            final var factory = SAXParserFactory.newInstance();
-            final var saxParser = factory.newSAXParser();
-            saxParser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Compliance with security
-            saxParser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); // compliance with security
-            saxParser.parse(is, new XMLMultiMappingHandler(handlers));
+            XMLParsers.parse(is, new XMLMultiMappingHandler(handlers));
         } catch (final IOException | SAXException | ParserConfigurationException e) {
             throw new SAXReadingException("Error reading xml", e);
         }
@@ -55,6 +93,36 @@ public class SAXUtils {
         }
     }
 
+    // parses each source on the executor with a new handler, results are in the order of the sources
+    public static <S, T> List<Parsed<T>> parseAll(final List<? extends S> sources, final Opener<? super S> opener,
+            final Supplier<DocumentHandler<T>> factory, final Executor executor) {
+        final List<CompletableFuture<Parsed<T>>> futures = new ArrayList<>(sources.size());
+        for (final S source : sources) {
+            futures.add(CompletableFuture.supplyAsync(() -> parseOne(source, opener, factory), executor));
+        }
+        final List<Parsed<T>> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<Parsed<T>> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    public static <T> List<Parsed<T>> parseAll(final List<Path> paths, final Supplier<DocumentHandler<T>> factory,
+            final Executor executor) {
+        return parseAll(paths, Files::newInputStream, factory, executor);
+    }
+
+    private static <S, T> Parsed<T> parseOne(final S source, final Opener<? super S> opener,
+            final Supplier<DocumentHandler<T>> factory) {
+        try (final var is = opener.open(source)) {
+            final var document = factory.get();
+            XMLParsers.parse(is, document.handler);
+            return new Parsed<>(document.result.get(), null);
+        } catch (final IOException | SAXException | ParserConfigurationException | RuntimeException e) {
+            return new Parsed<>(null, new SAXReadingException("Error reading " + source, e));
+        }
+    }
+
     private SAXUtils() {
         // block default constructor
     }
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+public class TagMatcher {
+    private static String[] compile(final String path) {
+        final var p = path.startsWith("/") ? path.substring(1) : path;
+        return p.isEmpty() ? new String[0] : p.split("/");
+    }
+
+    private int depth;
+    private int matched;
+    private final String[] segments;
+
+    public TagMatcher(final String path) {
+        segments = compile(path);
+    }
+
+    public boolean enter(final String qName) {
+        ++depth;
+        if (matched == depth - 1 && depth <= segments.length && segments[depth - 1].equalsIgnoreCase(qName)) {
+            matched = depth;
+        }
+        return isOnTarget();
+    }
+
+    public boolean isOnTarget() {
+        return segments.length > 0 && matched == segments.length && depth == segments.length;
+    }
+
+    public void leave() {
+        if (matched == depth) {
+            --matched;
+        }
+        --depth;
+    }
+
+    public void reset() {
+        depth = 0;
+        matched = 0;
+    }
+}
@@ -1,82 +0,0 @@
-/*
- * The MIT License (MIT)
- *
- * Copyright (c) 2023-2025 errorscript@gmail.com
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy
- * of this software and associated documentation files (the "Software"), to deal
- * in the Software without restriction, including without limitation the rights
- * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
- * copies of the Software, and to permit persons to whom the Software is
- * furnished to do so, subject to the following conditions:
- *
- * The above copyright notice and this permission notice shall be included in all
- * copies or substantial portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
- * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
- * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
- * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
- * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
- * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
- * SOFTWARE.
- */
-package bje.toolbox.xml;
-
-import java.util.LinkedList;
-import java.util.List;
-
-public class TagPath {
-    private static String toIndexedName(final String qName, final int i) {
-        return qName + (i == 0 ? "" : "(" + i + ")");
-    }
-
-    public final List<String> stack = new LinkedList<>();
-
-    public void clear() {
-        stack.clear();
-    }
-
-    public String flatten() {
-        final var sb = new StringBuilder(96);
-        for (final String s : stack) {
-            sb.append("/");
-            sb.append(s);
-        }
-        return sb.toString();
-    }
-
-    public String flatten(final String qName) {
-        final var sb = new StringBuilder(96);
-        for (final String s : stack) {
-            sb.append("/");
-            sb.append(s);
-        }
-        sb.append("/");
-        sb.append(qName);
-        return sb.toString();
-    }
-
-    public String flattenPrevious(final String qName) {
-        final var sb = new StringBuilder(96);
-        final var limit = stack.size() - 1;
-        for (var i = 0; i < limit; ++i) {
-            sb.append("/");
-            sb.append(stack.get(i));
-        }
-        sb.append("/");
-        sb.append(qName);
-        return sb.toString();
-    }
-
-    public void set(final String qName, final int i) {
-        stack.add(toIndexedName(qName, i));
-    }
-
-    public void unset(final String qName, final int i) {
-        final var s = stack.get(stack.size() - 1);
-        if (toIndexedName(qName, i).equalsIgnoreCase(s)) {
-            stack.remove(stack.size() - 1);
-        }
-    }
-}
@@ -23,52 +23,86 @@
  */
 package bje.toolbox.xml;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 
 public class XMLMap {
+    private Map<String, Data> flattened;
+    private final XMLNode node;
 
-    private final Map<String, Data> data;
-
-    public XMLMap(final Map<String, Data> dataMap) {
-        data = dataMap;
+    public XMLMap(final XMLNode aNode) {
+        node = aNode;
     }
 
     public Set<Entry<String, Data>> entrySet() {
-        return data.entrySet();
+        if (flattened == null) {
+            final Map<String, Data> map = new TreeMap<>();
+            node.flatten("", map);
+            flattened = Collections.unmodifiableMap(map);
+        }
+        return flattened.entrySet();
     }
 
-    public void forEach(final String key, final XMLMapper mapper) {
-        final Map<Integer, Map<String, Data>> maps = new TreeMap<>();
-        for (final Entry<String, Data> e : data.entrySet()) {
-            if (e.getKey().startsWith(key)) {
-                var i = 0;
-                var m = e.getKey().substring(key.length());
-                if (m.startsWith("(")) {
-                    final var y = m.indexOf(")");
-                    i = Integer.parseInt(m.substring(1, y));
-                    m = m.substring(y + 1);
-                }
-                final var map = maps.computeIfAbsent(i, n -> new HashMap<>());
-                map.put(m, e.getValue());
+    private Data find(final String key) {
+        final var slash = key.lastIndexOf('/');
+        final var colon = key.indexOf(':', slash + 1);
+        if (colon >= 0) {
+            final var element = navigate(key.substring(0, colon));
+            final var attribute = element == null ? null : element.getAttribute(key.substring(colon + 1));
+            if (attribute != null) {
+                return attribute;
             }
         }
-        for (final Map<String, Data> map : maps.values()) {
-            mapper.map(new XMLMap(map));
-        }
+        final var element = navigate(key);
+        return element == null ? null : element.getText();
+    }
 
+    public void forEach(final String key, final XMLMapper mapper) {
+        final var slash = key.lastIndexOf('/');
+        final var parent = navigate(key.substring(0, Math.max(slash, 0)));
+        if (parent == null) {
+            return;
+        }
+        for (final XMLNode child : parent.getChildren(key.substring(slash + 1))) {
+            if (!child.isEmpty()) {
+                mapper.map(new XMLMap(child));
+            }
+        }
     }
 
     public String get(final String key) {
-        final var dt = data.get(key);
+        final var dt = find(key);
         return dt == null ? null : dt.getText();
     }
 
     public Range getRange(final String key) {
-        final var dt = data.get(key);
+        final var dt = find(key);
         return dt == null ? null : dt.getRange();
     }
+
+    private XMLNode navigate(final String path) {
+        var current = node;
+        var start = path.startsWith("/") ? 1 : 0;
+        while (current != null && start < path.length()) {
+            var end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            var name = path.substring(start, end);
+            var i = 0;
+            if (name.endsWith(")")) {
+                final var open = name.lastIndexOf('(');
+                if (open > 0) {
+                    i = Integer.parseInt(name.substring(open + 1, name.length() - 1));
+                    name = name.substring(0, open);
+                }
+            }
+            current = current.getChild(name, i);
+            start = end + 1;
+        }
+        return current;
+    }
 }
@@ -27,4 +27,7 @@ public interface XMLMapper {
 
     void map(final XMLMap dataMap);
 
+    default Projection projection() {
+        return Projection.ALL;
+    }
 }
@@ -23,6 +23,9 @@
  */
 package bje.toolbox.xml;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.xml.sax.Attributes;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
@@ -31,15 +34,26 @@ import org.xml.sax.helpers.DefaultHandler;
 public class XMLMappingHandler extends DefaultHandler {
     private Mapper factory;
     private Locator loc;
+    // locations of the current document, a new arena is started for each document
+    private Locations locations;
     private int previousColumn;
     private int previousLine;
+    private final Projection projection;
+    private final List<Projection> projections = new ArrayList<>();
+    private int skipped;
     public final String startTag;
-    private TagPath tag;
+    private final TagMatcher tag;
     private final XMLMapper saver;
 
     public XMLMappingHandler(final XMLMapper aSaver, final String startingTag) {
+        this(aSaver, startingTag, aSaver.projection());
+    }
+
+    public XMLMappingHandler(final XMLMapper aSaver, final String startingTag, final Projection aProjection) {
         saver = aSaver;
         startTag = startingTag;
+        projection = aProjection;
+        tag = new TagMatcher(startingTag);
         init();
     }
 
@@ -48,11 +62,21 @@ public class XMLMappingHandler extends DefaultHandler {
         final var line = previousLine;
         final var column = previousColumn;
         updateLocation();
-        if (factory.isActive()) {
-            factory.setText(new String(ch, start, length), new Range(line, column, previousLine, previousColumn - 2));
+        if (factory.isActive() && skipped == 0 && current().needsText()) {
+            final var text = new String(ch, start, length);
+            if (!text.trim().isEmpty()) {
+                final var location = projection.needsRanges()
+                        ? locations().add(line, column, previousLine, previousColumn - 2)
+                        : Locations.NONE;
+                factory.setText(text, locations, location);
+            }
         }
     }
 
+    private Projection current() {
+        return projections.get(projections.size() - 1);
+    }
+
     @Override
     public void endDocument() throws SAXException {
         startDocument();
@@ -60,47 +84,83 @@ public class XMLMappingHandler extends DefaultHandler {
 
     @Override
     public void endElement(final String uri, final String localName, final String qName) throws SAXException {
-        if (tag.flatten().equalsIgnoreCase(startTag)) {
+        if (tag.isOnTarget()) {
             factory.saveElement();
         }
         if (factory.isActive()) {
-            factory.unsetTag(qName);
+            if (skipped > 0) {
+                --skipped;
+            } else {
+                factory.unsetTag(qName);
+                projections.remove(projections.size() - 1);
+            }
         }
-        tag.unset(qName, 0);
+        tag.leave();
         updateLocation();
     }
 
     public void init() {
         factory = new Mapper(saver);
-        tag = new TagPath();
+        tag.reset();
+        projections.clear();
+        skipped = 0;
+        locations = null;
         previousColumn = 0;
         previousLine = 0;
     }
 
+    private Locations locations() {
+        if (locations == null) {
+            locations = new Locations();
+        }
+        return locations;
+    }
+
     @Override
     public void setDocumentLocator(final Locator l) {
         loc = l;
     }
 
+    @Override
+    public void startDocument() throws SAXException {
+        locations = null;
+    }
+
     @Override
     public void startElement(final String uri, final String localName, final String qName, final Attributes attributes)
             throws SAXException {
         final var line = previousLine;
         final var column = previousColumn;
         updateLocation();
-        tag.set(qName, 0);
+        final var onTarget = tag.enter(qName);
         if (factory.isActive()) {
+            final var child = skipped > 0 ? null : current().child(qName);
+            if (child == null) {
+                ++skipped;
+                return;
+            }
+            projections.add(child);
             factory.setTag(qName);
         } else {
-            if (tag.flatten().equalsIgnoreCase(startTag)) {
+            if (onTarget) {
                 factory.newElement();
+                projections.clear();
+                projections.add(projection);
             }
         }
         if (factory.isActive()) {
+            final var current = current();
             final var limit = attributes.getLength();
+            // attributes share the location of their element
+            var location = Locations.NONE;
             for (var i = 0; i < limit; ++i) {
-                factory.setAttribute(attributes.getQName(i), attributes.getValue(i),
-                        new Range(line, column - 1, previousLine, previousColumn));
+                final var name = attributes.getQName(i);
+                if (current.needsAttribute(name)) {
+                    if (location == Locations.NONE && projection.needsRanges()) {
+                        location = locations().add(line, column - 1, previousLine, previousColumn);
+                    }
+                    factory.setAttribute(name, attributes.getValue(i), locations, location);
+                }
             }
         }
     }
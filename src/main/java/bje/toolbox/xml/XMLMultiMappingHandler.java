@@ -29,43 +29,43 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 public class XMLMultiMappingHandler extends DefaultHandler {
-    private final XMLMappingHandler[] handlers;
+    private final DefaultHandler[] handlers;
 
-    public XMLMultiMappingHandler(final XMLMappingHandler... aHandlerList) {
+    public XMLMultiMappingHandler(final DefaultHandler... aHandlerList) {
         handlers = aHandlerList;
     }
 
     @Override
     public void characters(final char[] ch, final int start, final int length) throws SAXException {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.characters(ch, start, length);
         }
     }
 
     @Override
     public void endDocument() throws SAXException {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.endDocument();
         }
     }
 
     @Override
     public void endElement(final String uri, final String localName, final String qName) throws SAXException {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.endElement(uri, localName, qName);
         }
     }
 
     @Override
     public void setDocumentLocator(final Locator l) {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.setDocumentLocator(l);
         }
     }
 
     @Override
     public void startDocument() throws SAXException {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.startDocument();
         }
     }
@@ -73,7 +73,7 @@ public class XMLMultiMappingHandler extends DefaultHandler {
     @Override
     public void startElement(final String uri, final String localName, final String qName, final Attributes attributes)
             throws SAXException {
-        for (final XMLMappingHandler handler : handlers) {
+        for (final DefaultHandler handler : handlers) {
             handler.startElement(uri, localName, qName, attributes);
         }
     }
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+public class XMLNode {
+    private static String toIndexedName(final String qName, final int i) {
+        return qName + (i == 0 ? "" : "(" + i + ")");
+    }
+
+    private Map<String, Data> attributes;
+    private List<XMLNode> children;
+    private final int index;
+    private Map<String, List<XMLNode>> named;
+    private final String name;
+    private final XMLNode parent;
+    private Data text;
+
+    public XMLNode(final String aName) {
+        this(aName, null, 0);
+    }
+
+    private XMLNode(final String aName, final XMLNode aParent, final int anIndex) {
+        name = aName;
+        parent = aParent;
+        index = anIndex;
+    }
+
+    public XMLNode addChild(final String qName) {
+        if (children == null) {
+            children = new ArrayList<>();
+            named = new HashMap<>();
+        }
+        final var list = named.computeIfAbsent(qName, q -> new ArrayList<>(1));
+        final var child = new XMLNode(qName, this, list.size());
+        list.add(child);
+        children.add(child);
+        return child;
+    }
+
+    public void addText(final Data data) {
+        text = text == null ? data : text.merge(data);
+    }
+
+    void flatten(final String path, final Map<String, Data> map) {
+        if (text != null) {
+            map.put(path, text);
+        }
+        if (attributes != null) {
+            for (final Entry<String, Data> entry : attributes.entrySet()) {
+                map.put(path + ":" + entry.getKey(), entry.getValue());
+            }
+        }
+        if (children != null) {
+            for (final XMLNode child : children) {
+                child.flatten(path + "/" + toIndexedName(child.name, child.index), map);
+            }
+        }
+    }
+
+    public Data getAttribute(final String qName) {
+        return attributes == null ? null : attributes.get(qName);
+    }
+
+    public XMLNode getChild(final String qName, final int i) {
+        final var list = getChildren(qName);
+        return i < list.size() ? list.get(i) : null;
+    }
+
+    public List<XMLNode> getChildren(final String qName) {
+        if (named == null) {
+            return Collections.emptyList();
+        }
+        return named.getOrDefault(qName, Collections.emptyList());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public XMLNode getParent() {
+        return parent;
+    }
+
+    public Data getText() {
+        return text;
+    }
+
+    public boolean isEmpty() {
+        if (text != null || attributes != null) {
+            return false;
+        }
+        if (children != null) {
+            for (final XMLNode child : children) {
+                if (!child.isEmpty()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public void setAttribute(final String qName, final Data data) {
+        if (attributes == null) {
+            attributes = new LinkedHashMap<>(4);
+        }
+        attributes.put(qName, data);
+    }
+}
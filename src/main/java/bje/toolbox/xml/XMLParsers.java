@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+public final class XMLParsers {
+    public enum Engine {
+        SAX, STAX;
+    }
+
+    private static class StreamLocator implements Locator {
+        private final XMLStreamReader reader;
+
+        StreamLocator(final XMLStreamReader aReader) {
+            reader = aReader;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return reader.getLocation().getColumnNumber();
+        }
+
+        @Override
+        public int getLineNumber() {
+            return reader.getLocation().getLineNumber();
+        }
+
+        @Override
+        public String getPublicId() {
+            return reader.getLocation().getPublicId();
+        }
+
+        @Override
+        public String getSystemId() {
+            return reader.getLocation().getSystemId();
+        }
+    }
+
+    private static volatile Engine engine = Engine.SAX;
+    // parsers are confined to the thread using them, a deque allows a handler to start a nested parse
+    private static final ThreadLocal<Deque<SAXParser>> SAX_PARSERS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<XMLInputFactory> STAX_FACTORIES = ThreadLocal
+            .withInitial(XMLParsers::newInputFactory);
+
+    public static Engine getEngine() {
+        return engine;
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        final var factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+        return factory;
+    }
+
+    public static SAXParser newSAXParser() throws ParserConfigurationException, SAXException {
+        final var factory = SAXParserFactory.newInstance();
+        // to be compliant, completely disable DOCTYPE declaration:
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        final var parser = factory.newSAXParser();
+        parser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Compliance with security
+        parser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); // compliance with security
+        return parser;
+    }
+
+    public static void parse(final InputStream is, final DefaultHandler handler)
+            throws SAXException, IOException, ParserConfigurationException {
+        parse(new InputSource(is), handler);
+    }
+
+    public static void parse(final InputSource source, final DefaultHandler handler)
+            throws SAXException, IOException, ParserConfigurationException {
+        if (engine == Engine.STAX) {
+            parseStAX(source, handler);
+        } else {
+            parseSAX(source, handler);
+        }
+    }
+
+    private static void parseSAX(final InputSource source, final DefaultHandler handler)
+            throws SAXException, IOException, ParserConfigurationException {
+        final var pool = SAX_PARSERS.get();
+        var parser = pool.poll();
+        if (parser == null) {
+            parser = newSAXParser();
+        }
+        try {
+            parser.parse(source, handler);
+        } finally {
+            parser.reset();
+            pool.push(parser);
+        }
+    }
+
+    private static void parseStAX(final InputSource source, final DefaultHandler handler) throws SAXException {
+        XMLStreamReader reader = null;
+        try {
+            final var factory = STAX_FACTORIES.get();
+            reader = source.getCharacterStream() != null ? factory.createXMLStreamReader(source.getCharacterStream())
+                    : factory.createXMLStreamReader(source.getByteStream());
+            handler.setDocumentLocator(new StreamLocator(reader));
+            handler.startDocument();
+            final var attributes = new AttributesImpl();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    attributes.clear();
+                    final var limit = reader.getAttributeCount();
+                    for (var i = 0; i < limit; ++i) {
+                        final var name = reader.getAttributeLocalName(i);
+                        attributes.addAttribute("", name, name, reader.getAttributeType(i),
+                                reader.getAttributeValue(i));
+                    }
+                    handler.startElement("", reader.getLocalName(), reader.getLocalName(), attributes);
+                }
+                case XMLStreamConstants.END_ELEMENT ->
+                    handler.endElement("", reader.getLocalName(), reader.getLocalName());
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                    handler.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                case XMLStreamConstants.DTD -> throw new SAXParseException("DOCTYPE is disallowed", null);
+                default -> {
+                    // comments and processing instructions are not reported
+                }
+                }
+            }
+            handler.endDocument();
+        } catch (final XMLStreamException e) {
+            throw new SAXParseException(e.getMessage(), null, e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException e) {
+                    // already failed or ended
+                }
+            }
+        }
+    }
+
+    public static void setEngine(final Engine anEngine) {
+        engine = anEngine;
+    }
+
+    private XMLParsers() {
+        // block default constructor
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml.binding;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import bje.toolbox.xml.Data;
+import bje.toolbox.xml.Locations;
+import bje.toolbox.xml.TagMatcher;
+
+// Base of the handlers generated from XMLBinding: states are the nodes of the bound paths, 0 being the start tag.
+// Locations and text are computed the same way as XMLMappingHandler.
+public abstract class BindingHandler<T> extends DefaultHandler {
+    protected static final int SKIP = -1;
+
+    protected static String append(final String current, final String text) {
+        return current == null ? text : current + text;
+    }
+
+    private int depth;
+    private Locator loc;
+    private Locations locations;
+    private int previousColumn;
+    private int previousLine;
+    private final boolean ranges;
+    private final Consumer<T> saver;
+    private int skipped;
+    public final String startTag;
+    private int[] states = new int[8];
+    private final TagMatcher tag;
+
+    protected BindingHandler(final Consumer<T> aSaver, final String startingTag, final boolean withRanges) {
+        saver = aSaver;
+        startTag = startingTag;
+        ranges = withRanges;
+        tag = new TagMatcher(startingTag);
+    }
+
+    protected Data append(final Data current, final String text, final int location) {
+        final var data = data(text, location);
+        return current == null ? data : current.merge(data);
+    }
+
+    protected abstract void attribute(final int state, final String qName, final String value, final int location);
+
+    protected abstract void begin();
+
+    protected abstract T build();
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) throws SAXException {
+        final var line = previousLine;
+        final var column = previousColumn;
+        updateLocation();
+        if (depth == 0 || skipped > 0) {
+            return;
+        }
+        var first = start;
+        var last = start + length;
+        while (first < last && ch[first] <= ' ') {
+            ++first;
+        }
+        while (last > first && ch[last - 1] <= ' ') {
+            --last;
+        }
+        if (first < last) {
+            text(states[depth - 1], new String(ch, first, last - first),
+                    ranges ? locations().add(line, column, previousLine, previousColumn - 2) : Locations.NONE);
+        }
+    }
+
+    protected Data data(final String text, final int location) {
+        return new Data(text, locations, location);
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+        startDocument();
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+        if (depth > 0) {
+            if (skipped > 0) {
+                --skipped;
+            } else {
+                exit(states[--depth]);
+                if (depth == 0) {
+                    saver.accept(build());
+                }
+            }
+        }
+        tag.leave();
+        updateLocation();
+    }
+
+    protected abstract int enter(final int state, final String qName);
+
+    protected abstract void exit(final int state);
+
+    private Locations locations() {
+        if (locations == null) {
+            locations = new Locations();
+        }
+        return locations;
+    }
+
+    @Override
+    public void setDocumentLocator(final Locator l) {
+        loc = l;
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+        tag.reset();
+        locations = null;
+        depth = 0;
+        skipped = 0;
+        previousColumn = 0;
+        previousLine = 0;
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attributes)
+            throws SAXException {
+        final var line = previousLine;
+        final var column = previousColumn;
+        updateLocation();
+        final var onTarget = tag.enter(qName);
+        final int state;
+        if (depth > 0) {
+            if (skipped > 0) {
+                ++skipped;
+                return;
+            }
+            state = enter(states[depth - 1], qName);
+            if (state == SKIP) {
+                ++skipped;
+                return;
+            }
+        } else if (onTarget) {
+            begin();
+            state = 0;
+        } else {
+            return;
+        }
+        if (depth == states.length) {
+            states = Arrays.copyOf(states, depth * 2);
+        }
+        states[depth++] = state;
+        final var limit = attributes.getLength();
+        if (limit > 0) {
+            final var location = ranges ? locations().add(line, column - 1, previousLine, previousColumn)
+                    : Locations.NONE;
+            for (var i = 0; i < limit; ++i) {
+                attribute(state, attributes.getQName(i), attributes.getValue(i), location);
+            }
+        }
+    }
+
+    protected abstract void text(final int state, final String text, final int location);
+
+    private void updateLocation() {
+        previousLine = loc == null ? 0 : loc.getLineNumber();
+        previousColumn = loc == null ? 0 : loc.getColumnNumber();
+    }
+}
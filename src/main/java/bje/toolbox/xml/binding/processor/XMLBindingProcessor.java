@@ -0,0 +1,517 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml.binding.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import bje.toolbox.xml.binding.XMLBinding;
+import bje.toolbox.xml.binding.XMLPath;
+
+// Generates the BindingHandler of each XMLBinding type, paths and types are checked at compile time.
+@SupportedAnnotationTypes({ "bje.toolbox.xml.binding.XMLBinding", "bje.toolbox.xml.binding.XMLPath" })
+public class XMLBindingProcessor extends AbstractProcessor {
+    private static class BindingException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        BindingException(final String message, final Element anElement) {
+            super(message);
+            element = anElement;
+        }
+    }
+
+    // a type built by the handler: the bound type itself or the item type of a nested list
+    private static class Group {
+        // leaves of the group and of its nested groups, reset once an item is built
+        private final List<Leaf> leaves = new ArrayList<>();
+        private final List<Param> params = new ArrayList<>();
+        private final String type;
+
+        Group(final String aType) {
+            type = aType;
+        }
+    }
+
+    private enum Kind {
+        DATA, LIST_DATA, LIST_ITEM, LIST_STRING, RANGE, STRING;
+
+        boolean isList() {
+            return this == LIST_DATA || this == LIST_ITEM || this == LIST_STRING;
+        }
+    }
+
+    // a captured value (text of a node or one of its attributes) or a list of nested items
+    private static class Leaf {
+        private boolean attribute;
+        private boolean data;
+        private final int id;
+        private String item;
+        private final boolean list;
+
+        Leaf(final int anId, final boolean isList) {
+            id = anId;
+            list = isList;
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Leaf> attributes = new LinkedHashMap<>();
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Group nested;
+        private Leaf nestedList;
+        private final int state;
+        private Leaf text;
+
+        Node(final int aState) {
+            state = aState;
+        }
+    }
+
+    private static class Param {
+        private final Kind kind;
+        private final Leaf leaf;
+
+        Param(final Kind aKind, final Leaf aLeaf) {
+            kind = aKind;
+            leaf = aLeaf;
+        }
+    }
+
+    private static final String DATA = "bje.toolbox.xml.Data";
+    private static final String INDENT = "    ";
+    private static final Pattern PATH = Pattern.compile("^((?:/[A-Za-z_][\\w.\\-]*)*)(?::([A-Za-z_][\\w.\\-:]*))?$");
+    private static final String STRING = "java.lang.String";
+    private static final Pattern TAG = Pattern.compile("^(/[A-Za-z_][\\w.\\-]*)+$");
+
+    private static void append(final StringBuilder out, final int indent, final String... parts) {
+        out.append(INDENT.repeat(indent));
+        for (final String part : parts) {
+            out.append(part);
+        }
+        out.append('\n');
+    }
+
+    private static String construct(final Group group) {
+        final var sb = new StringBuilder("new ").append(group.type).append('(');
+        for (var i = 0; i < group.params.size(); ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(value(group.params.get(i)));
+        }
+        return sb.append(')').toString();
+    }
+
+    private static String quote(final String s) {
+        return '"' + s + '"';
+    }
+
+    private static void reset(final StringBuilder out, final int indent, final List<Leaf> leaves) {
+        for (final Leaf leaf : leaves) {
+            if (leaf.list) {
+                append(out, indent, "l", Integer.toString(leaf.id), " = new ArrayList<>();");
+            }
+            if (leaf.item == null) {
+                append(out, indent, "f", Integer.toString(leaf.id), " = null;");
+                if (!leaf.list && !leaf.attribute) {
+                    append(out, indent, "d", Integer.toString(leaf.id), " = false;");
+                }
+            }
+        }
+    }
+
+    private static String value(final Param param) {
+        final var f = "f" + param.leaf.id;
+        return switch (param.kind) {
+        case DATA -> f;
+        case RANGE -> f + " == null ? null : " + f + ".getRange()";
+        case STRING -> param.leaf.data ? f + " == null ? null : " + f + ".getText()" : f;
+        default -> "l" + param.leaf.id;
+        };
+    }
+
+    private final List<Leaf> leaves = new ArrayList<>();
+    private final List<Node> nodes = new ArrayList<>();
+
+    private Node add(final Node root, final String path, final Element element) throws BindingException {
+        var node = root;
+        if (!path.isEmpty()) {
+            for (final String segment : path.substring(1).split("/")) {
+                if (node != root && node.nested != null) {
+                    throw new BindingException("path '" + path + "' goes through a nested list", element);
+                }
+                final var parent = node;
+                node = parent.children.computeIfAbsent(segment, k -> {
+                    final var child = new Node(nodes.size());
+                    nodes.add(child);
+                    return child;
+                });
+            }
+        }
+        if (node != root && node.nested != null) {
+            throw new BindingException("path '" + path + "' is already bound to a nested list", element);
+        }
+        return node;
+    }
+
+    private ExecutableElement constructor(final TypeElement type, final Element element) throws BindingException {
+        ExecutableElement found = null;
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            final var params = constructor.getParameters();
+            if (!params.isEmpty() && params.stream().allMatch(p -> p.getAnnotation(XMLPath.class) != null)) {
+                if (found != null) {
+                    throw new BindingException("more than one constructor of " + type + " is bound", element);
+                }
+                found = constructor;
+            }
+        }
+        if (found == null) {
+            throw new BindingException(type + " needs a constructor with all its parameters annotated with @XMLPath",
+                    element);
+        }
+        if (found.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new BindingException("the bound constructor of " + type + " cannot be private", element);
+        }
+        return found;
+    }
+
+    private void generate(final TypeElement type) throws BindingException, IOException {
+        leaves.clear();
+        nodes.clear();
+        final var startTag = type.getAnnotation(XMLBinding.class).value();
+        if (!startTag.isEmpty() && !TAG.matcher(startTag).matches()) {
+            throw new BindingException("invalid start tag '" + startTag + "'", type);
+        }
+        final var root = new Node(0);
+        nodes.add(root);
+        final var group = group(type, root, type);
+        final var packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final var name = type.getSimpleName() + "Binding";
+        final var ranges = leaves.stream().anyMatch(l -> l.data);
+        final var out = new StringBuilder(8192);
+        if (!packageName.isEmpty()) {
+            append(out, 0, "package ", packageName, ";");
+            append(out, 0);
+        }
+        append(out, 0, "import java.util.ArrayList;");
+        append(out, 0, "import java.util.List;");
+        append(out, 0, "import java.util.function.Consumer;");
+        append(out, 0);
+        append(out, 0, "import javax.annotation.processing.Generated;");
+        append(out, 0);
+        append(out, 0, "import bje.toolbox.xml.Data;");
+        append(out, 0, "import bje.toolbox.xml.binding.BindingHandler;");
+        append(out, 0);
+        append(out, 0, "@Generated(", quote(getClass().getName()), ")");
+        final var visibility = type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+        append(out, 0, visibility, "final class ", name, " extends BindingHandler<", group.type, "> {");
+        for (final Leaf leaf : leaves) {
+            final var id = Integer.toString(leaf.id);
+            final var item = leaf.data ? "Data" : "String";
+            if (leaf.list) {
+                append(out, 1, "private List<", leaf.item == null ? item : leaf.item, "> l", id, ";");
+            }
+            if (leaf.item == null) {
+                append(out, 1, "private ", item, " f", id, ";");
+                if (!leaf.list && !leaf.attribute) {
+                    append(out, 1, "private boolean d", id, ";");
+                }
+            }
+        }
+        append(out, 0);
+        if (!startTag.isEmpty()) {
+            append(out, 1, visibility, name, "(final Consumer<", group.type, "> aSaver) {");
+            append(out, 2, "this(aSaver, ", quote(startTag), ");");
+            append(out, 1, "}");
+            append(out, 0);
+        }
+        append(out, 1, visibility, name, "(final Consumer<", group.type, "> aSaver, final String startingTag) {");
+        append(out, 2, "super(aSaver, startingTag, ", Boolean.toString(ranges), ");");
+        append(out, 1, "}");
+        append(out, 0);
+        generateAttribute(out);
+        append(out, 1, "@Override");
+        append(out, 1, "protected void begin() {");
+        reset(out, 2, leaves);
+        append(out, 1, "}");
+        append(out, 0);
+        append(out, 1, "@Override");
+        append(out, 1, "protected ", group.type, " build() {");
+        append(out, 2, "return ", construct(group), ";");
+        append(out, 1, "}");
+        append(out, 0);
+        generateEnter(out);
+        generateExit(out);
+        generateText(out);
+        append(out, 0, "}");
+        final var file = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? name : packageName + '.' + name, type);
+        try (final var writer = file.openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private void generateAttribute(final StringBuilder out) {
+        append(out, 1, "@Override");
+        append(out, 1, "protected void attribute(final int state, final String qName, final String value,");
+        append(out, 3, "final int location) {");
+        append(out, 2, "switch (state) {");
+        for (final Node node : nodes) {
+            if (node.attributes.isEmpty()) {
+                continue;
+            }
+            append(out, 2, "case ", Integer.toString(node.state), " -> {");
+            append(out, 3, "switch (qName) {");
+            for (final Map.Entry<String, Leaf> entry : node.attributes.entrySet()) {
+                final var f = "f" + entry.getValue().id;
+                append(out, 3, "case ", quote(entry.getKey()), " -> {");
+                append(out, 4, "if (", f, " == null) {");
+                append(out, 5, f, " = ", entry.getValue().data ? "data(value, location)" : "value", ";");
+                append(out, 4, "}");
+                append(out, 3, "}");
+            }
+            append(out, 3, "default -> {");
+            append(out, 4, "// not bound");
+            append(out, 3, "}");
+            append(out, 3, "}");
+            append(out, 2, "}");
+        }
+        append(out, 2, "default -> {");
+        append(out, 3, "// no bound attribute");
+        append(out, 2, "}");
+        append(out, 2, "}");
+        append(out, 1, "}");
+        append(out, 0);
+    }
+
+    private void generateEnter(final StringBuilder out) {
+        append(out, 1, "@Override");
+        append(out, 1, "protected int enter(final int state, final String qName) {");
+        append(out, 2, "return switch (state) {");
+        for (final Node node : nodes) {
+            if (node.children.isEmpty()) {
+                continue;
+            }
+            append(out, 2, "case ", Integer.toString(node.state), " -> switch (qName) {");
+            for (final Map.Entry<String, Node> entry : node.children.entrySet()) {
+                append(out, 3, "case ", quote(entry.getKey()), " -> ", Integer.toString(entry.getValue().state), ";");
+            }
+            append(out, 3, "default -> SKIP;");
+            append(out, 3, "};");
+        }
+        append(out, 2, "default -> SKIP;");
+        append(out, 2, "};");
+        append(out, 1, "}");
+        append(out, 0);
+    }
+
+    private void generateExit(final StringBuilder out) {
+        append(out, 1, "@Override");
+        append(out, 1, "protected void exit(final int state) {");
+        append(out, 2, "switch (state) {");
+        for (final Node node : nodes) {
+            if (node.text == null && node.nested == null) {
+                continue;
+            }
+            append(out, 2, "case ", Integer.toString(node.state), " -> {");
+            if (node.text != null) {
+                final var id = Integer.toString(node.text.id);
+                if (node.text.list) {
+                    append(out, 3, "if (f", id, " != null) {");
+                    append(out, 4, "l", id, ".add(f", id, ");");
+                    append(out, 4, "f", id, " = null;");
+                    append(out, 3, "}");
+                } else {
+                    append(out, 3, "d", id, " = true;");
+                }
+            }
+            if (node.nested != null) {
+                append(out, 3, "l", Integer.toString(node.nestedList.id), ".add(", construct(node.nested), ");");
+                reset(out, 3, node.nested.leaves);
+            }
+            append(out, 2, "}");
+        }
+        append(out, 2, "default -> {");
+        append(out, 3, "// nothing to collect");
+        append(out, 2, "}");
+        append(out, 2, "}");
+        append(out, 1, "}");
+        append(out, 0);
+    }
+
+    private void generateText(final StringBuilder out) {
+        append(out, 1, "@Override");
+        append(out, 1, "protected void text(final int state, final String text, final int location) {");
+        append(out, 2, "switch (state) {");
+        for (final Node node : nodes) {
+            if (node.text == null) {
+                continue;
+            }
+            final var id = Integer.toString(node.text.id);
+            final var value = node.text.data ? "append(f" + id + ", text, location)" : "append(f" + id + ", text)";
+            append(out, 2, "case ", Integer.toString(node.state), " -> {");
+            if (node.text.list) {
+                append(out, 3, "f", id, " = ", value, ";");
+            } else {
+                append(out, 3, "if (!d", id, ") {");
+                append(out, 4, "f", id, " = ", value, ";");
+                append(out, 3, "}");
+            }
+            append(out, 2, "}");
+        }
+        append(out, 2, "default -> {");
+        append(out, 3, "// no bound text");
+        append(out, 2, "}");
+        append(out, 2, "}");
+        append(out, 1, "}");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    private Group group(final TypeElement type, final Node root, final Element element) throws BindingException {
+        final var group = new Group(type.getQualifiedName().toString());
+        final var first = leaves.size();
+        for (final var param : constructor(type, element).getParameters()) {
+            final var path = param.getAnnotation(XMLPath.class).value();
+            final var matcher = PATH.matcher(path);
+            if (!matcher.matches()) {
+                throw new BindingException("invalid path '" + path + "'", param);
+            }
+            final var attribute = matcher.group(2);
+            final var kind = kind(param.asType(), param);
+            if (attribute != null && kind.isList()) {
+                throw new BindingException("attribute '" + path + "' cannot be bound to a list", param);
+            }
+            final var node = add(root, matcher.group(1), param);
+            if (kind == Kind.LIST_ITEM) {
+                if (node == root || !node.children.isEmpty() || !node.attributes.isEmpty() || node.text != null) {
+                    throw new BindingException("path '" + path + "' cannot hold a nested list", param);
+                }
+                final var leaf = newLeaf(true);
+                final var item = (TypeElement) ((DeclaredType) ((DeclaredType) param.asType()).getTypeArguments()
+                        .get(0)).asElement();
+                leaf.item = item.getQualifiedName().toString();
+                node.nestedList = leaf;
+                node.nested = group(item, node, param);
+                group.params.add(new Param(kind, leaf));
+                continue;
+            }
+            var leaf = attribute == null ? node.text : node.attributes.get(attribute);
+            if (leaf == null) {
+                leaf = newLeaf(kind.isList());
+                if (attribute == null) {
+                    node.text = leaf;
+                } else {
+                    leaf.attribute = true;
+                    node.attributes.put(attribute, leaf);
+                }
+            } else if (leaf.list || kind.isList()) {
+                throw new BindingException("path '" + path + "' is bound twice", param);
+            }
+            leaf.data |= kind == Kind.DATA || kind == Kind.RANGE || kind == Kind.LIST_DATA;
+            group.params.add(new Param(kind, leaf));
+        }
+        group.leaves.addAll(leaves.subList(first, leaves.size()));
+        return group;
+    }
+
+    private Kind kind(final TypeMirror type, final Element element) throws BindingException {
+        final var name = processingEnv.getTypeUtils().erasure(type).toString();
+        switch (name) {
+        case STRING:
+            return Kind.STRING;
+        case DATA:
+            return Kind.DATA;
+        case "bje.toolbox.xml.Range":
+            return Kind.RANGE;
+        case "java.util.List":
+            final var args = ((DeclaredType) type).getTypeArguments();
+            if (args.size() == 1 && args.get(0).getKind() == TypeKind.DECLARED) {
+                final var item = args.get(0).toString();
+                if (STRING.equals(item)) {
+                    return Kind.LIST_STRING;
+                }
+                if (DATA.equals(item)) {
+                    return Kind.LIST_DATA;
+                }
+                return Kind.LIST_ITEM;
+            }
+            break;
+        default:
+            break;
+        }
+        throw new BindingException("unsupported type " + type + ", expecting String, Data, Range or a List",
+                element);
+    }
+
+    private Leaf newLeaf(final boolean list) {
+        final var leaf = new Leaf(leaves.size(), list);
+        leaves.add(leaf);
+        return leaf;
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(XMLBinding.class)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@XMLBinding expects a class or a record", element);
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (final BindingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "cannot generate binding: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+}
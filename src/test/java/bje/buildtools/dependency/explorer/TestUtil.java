@@ -47,6 +47,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
 
+import javax.xml.parsers.ParserConfigurationException;
+
 import org.sonar.api.batch.fs.InputComponent;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.TextPointer;
@@ -61,11 +63,14 @@ import org.sonar.api.config.Configuration;
 import org.sonar.api.issue.impact.SoftwareQuality;
 import org.sonar.api.measures.Metric;
 import org.sonar.api.rule.RuleKey;
+import org.xml.sax.SAXException;
 
 import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.data.DependencyType;
 import bje.buildtools.dependency.explorer.data.POMType;
+import bje.buildtools.dependency.explorer.maven.PomParser;
+import bje.buildtools.dependency.explorer.util.InputFileUtils;
 import bje.buildtools.dependency.explorer.util.Utils;
 
 public class TestUtil {
@@ -518,6 +523,16 @@ public class TestUtil {
         };
     }
 
+    // module of bumpProject, its parent declares the lib.version property
+    public static Pom loadBumpModule() throws IOException, SAXException, ParserConfigurationException {
+        final var parent = new Pom(InputFileUtils.loadFile("src/test/resources/bumpProject/pom.xml"), POMType.PARENT);
+        PomParser.fullParse(parent, null);
+        final var pom = new Pom(InputFileUtils.loadFile("src/test/resources/bumpProject/module/pom.xml"), parent,
+                POMType.MODULE);
+        PomParser.fullParse(pom, null);
+        return pom;
+    }
+
     public static InputFile loadFile() throws IOException {
         final var mockedList = mock(InputFile.class);
         final var classLoader = TestUtil.class.getClassLoader();
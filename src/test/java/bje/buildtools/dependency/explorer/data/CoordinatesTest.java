@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class CoordinatesTest {
+
+    @Test
+    void test() {
+        final var id = Coordinates.id("org.coordinates", "core");
+        assertEquals(id, Coordinates.id("org.coordinates", "core"));
+        assertEquals(id, Coordinates.id("org.coordinates:core"));
+        assertNotEquals(id, Coordinates.id("org.coordinates", "api"));
+        assertEquals("org.coordinates:core", Coordinates.key(id));
+        assertEquals("null:core", Coordinates.key(Coordinates.id(null, "core")));
+
+        final var a = new Artifact("org.coordinates", "core", "1.0");
+        final var b = new Artifact("org.coordinates", "core", "2.0");
+        assertEquals(id, a.getGAId());
+        assertSame(a.toGA(), b.toGA());
+    }
+
+    @Test
+    void testClear() {
+        assertEquals("org.clear:core", Coordinates.key(Coordinates.id("org.clear", "core")));
+        Coordinates.clear();
+        assertEquals(0, Coordinates.size());
+        assertEquals(0, Coordinates.id("org.clear", "api"));
+        assertEquals(1, Coordinates.id("org.clear:core"));
+        assertEquals("org.clear:core", Coordinates.key(1));
+    }
+
+    @Test
+    void testGrowth() {
+        for (var i = 0; i < 3000; i++) {
+            final var id = Coordinates.id("org.growth", "a" + i);
+            assertEquals("org.growth:a" + i, Coordinates.key(id));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+    private static Dependency node(final String anArtifactId, final String aScope) {
+        final var artifact = new Artifact("group", anArtifactId, "1.0");
+        artifact.setScope(aScope);
+        return new Dependency(null, artifact);
+    }
+
+    @Test
+    void testGraph() {
+        // root -> (a -> (c, d -> (b)), b)
+        final var root = node("root", null);
+        final var a = node("a", null);
+        final var b = node("b", "test");
+        final var c = node("c", "runtime");
+        final var d = node("d", "system");
+        d.addDependency(node("b", "test"));
+        a.addDependency(c);
+        a.addDependency(d);
+        root.addDependency(a);
+        root.addDependency(b);
+
+        final var graph = DependencyGraph.of(root);
+        assertEquals(6, graph.size());
+        final var order = new StringBuilder();
+        for (var n = 0; n < graph.size(); n++) {
+            order.append(graph.getDependency(n).getArtifactId());
+        }
+        assertEquals("rootacdbb", order.toString());
+        assertEquals(Coordinates.id("group", "b"), graph.getGAId(4));
+
+        assertEquals(2, graph.getChildStop(0) - graph.getChildStart(0));
+        assertEquals(1, graph.getChild(graph.getChildStart(0)));
+        assertEquals(5, graph.getChild(graph.getChildStart(0) + 1));
+        assertEquals(graph.getChildStart(2), graph.getChildStop(2));
+        assertEquals(4, graph.getChild(graph.getChildStart(3)));
+
+        assertArrayEquals(new int[] { 0, 1, 5, 2, 3, 4 }, graph.breadthFirst());
+    }
+}
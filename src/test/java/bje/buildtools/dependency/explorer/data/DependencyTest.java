@@ -24,10 +24,14 @@
 package bje.buildtools.dependency.explorer.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -38,9 +42,13 @@ import bje.buildtools.dependency.explorer.license.LicenseIdentity;
 
 class DependencyTest {
     private void addVersions(final Set<Version> versions, final String... strings) {
+        final List<Version> list = new ArrayList<>();
         for (final String string : strings) {
-            versions.add(new Version(string));
+            list.add(new Version(string));
         }
+        assertTrue(versions.addAll(list));
+        assertFalse(versions.addAll(list));
+        assertFalse(versions.add(list.get(0)));
     }
 
     @SafeVarargs
@@ -64,6 +72,24 @@ class DependencyTest {
                 a.toString());
     }
 
+    @Test
+    void testChildren() {
+        final var root = new Dependency(null, new Artifact("group", "root", "1.0.0"));
+        for (var i = 0; i < 100; i++) {
+            root.addDependency(new Dependency(null, new Artifact("group", "child" + i % 10, "1." + i)));
+        }
+        assertEquals(10, root.getChildren().size());
+        final var iter = root.getChildren().iterator();
+        for (var i = 0; i < 10; i++) {
+            final var child = iter.next();
+            assertEquals("group:child" + i + ":1." + (90 + i), child.toGAV());
+            assertEquals(root, child.getParent());
+        }
+        root.addDependency(new Dependency(null, new Artifact("group", "child3", "1.5")));
+        assertEquals(10, root.getChildren().size());
+        assertTrue(root.getChildren().stream().anyMatch(c -> "group:child3:1.93".equals(c.toGAV())));
+    }
+
     @Test
     void testEquality() {
         final var a = new Dependency(null, new Artifact("group", "artifactId", "1.0.0"));
@@ -92,4 +118,32 @@ class DependencyTest {
         assertEquals(DependencyType.DEPENDENCY, a.getSource());
 
     }
+
+    @Test
+    void testStructuralHash() {
+        final var a = tree();
+        final var b = tree();
+        assertEquals(a.getStructuralHash(), b.getStructuralHash());
+        assertEquals(0, a.compareTo(b));
+
+        final var leaf = b.getChildren().iterator().next().getChildren().iterator().next();
+        leaf.declarePackage("org.example");
+        assertNotEquals(a.getStructuralHash(), b.getStructuralHash());
+        assertTrue(a.compareTo(b) != 0);
+        assertEquals(-Integer.signum(a.compareTo(b)), Integer.signum(b.compareTo(a)));
+
+        a.getChildren().iterator().next().getChildren().iterator().next().declarePackage("org.example");
+        assertEquals(a.getStructuralHash(), b.getStructuralHash());
+        assertEquals(0, a.compareTo(b));
+    }
+
+    private Dependency tree() {
+        final var root = new Dependency(null, new Artifact("group", "root", "1.0.0"));
+        for (var i = 0; i < 3; i++) {
+            final var child = new Dependency(null, new Artifact("group", "child" + i, "1.0." + i));
+            child.addDependency(new Dependency(null, new Artifact("group", "leaf" + i, "2.0." + i)));
+            root.addDependency(child);
+        }
+        return root;
+    }
 }
@@ -24,6 +24,8 @@
 package bje.buildtools.dependency.explorer.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -38,15 +40,14 @@ import bje.buildtools.dependency.explorer.license.LicenseModel;
 import bje.buildtools.dependency.explorer.maven.PomParser;
 
 class PomTest {
-
     @Test
     void test() throws IOException, SAXException, ParserConfigurationException {
         final var model = new LicenseModel();
         final var file = TestUtil.loadFile();
         final var pom = new Pom(file, POMType.MAIN);
-        final var fp = PomParser.firstParse(pom);
-        pom.fill(fp);
-        PomParser.thirdParse(pom, model, true);
+        final var pomModel = PomParser.parse(file);
+        pom.fill(PomParser.firstParse(pom, pomModel));
+        PomParser.thirdParse(pom, pomModel, model, true);
         final var defMain = pom.addDependency(new Artifact("group", "main", "1.0.0"), Arrays.asList(),
                 DependencyType.DEPENDENCY);
 
@@ -78,4 +79,52 @@ class PomTest {
         assertEquals(print, sb.toString());
     }
 
+    @Test
+    void testEffectiveIndex() {
+        final var parent = new Pom(null, POMType.PARENT);
+        parent.fill(new Artifact("group", "parent", "1.0.0"));
+        final var managed = parent.addDependency(new Artifact("group", "managed", "2.0.0"), true);
+        parent.addDependency(new Artifact("group", "versionless", null), true);
+        parent.markResolved();
+
+        final var bom = new Pom(null, POMType.BOM);
+        bom.fill(new Artifact("group", "bom", "1.0.0"));
+        final var imported = bom.addDependency(new Artifact("group", "versionless", "3.0.0"), true);
+        bom.markResolved();
+
+        final var module = new Pom(null, parent, POMType.MODULE);
+        module.fill(new Artifact(null, "module", null));
+        module.addImport(bom);
+        final var local = module.addDependency(new Artifact("group", "local", "1.0.0"), false);
+        final var walked = module.getAnyDependency("group", "versionless");
+        module.markResolved();
+
+        assertSame(module.getRoot(), module.getAnyDependency("group", "module"));
+        assertSame(local, module.getAnyDependency("group", "local"));
+        assertSame(managed, module.getAnyDependency("group", "managed"));
+        assertSame(walked, module.getAnyDependency("group", "versionless"));
+        assertSame(imported, module.getAnyDependency("group", "versionless"));
+        assertSame(parent.getRoot(), module.getAnyDependency("group", "parent"));
+        assertNull(module.getAnyDependency("group", "missing"));
+
+        // a change anywhere in the chain is seen by the next lookup
+        final var late = parent.addDependency(new Artifact("group", "late", "1.0.0"), true);
+        assertSame(late, module.getAnyDependency("group", "late"));
+        assertSame(late, module.getAnyDependency("group", "late"));
+        final var lateImport = bom.addDependency(new Artifact("group", "late-import", "1.0.0"), true);
+        assertSame(lateImport, module.getAnyDependency("group", "late-import"));
+    }
+
+    @Test
+    void testVersionLocation() throws IOException, SAXException, ParserConfigurationException {
+        final var pom = TestUtil.loadBumpModule();
+        final var lib = pom.getVersionLocation(pom.getAnyDependency("bump", "lib"));
+        assertEquals(pom.getParent().getComponent(), lib.getFile());
+        assertEquals("1.0.0", lib.getText().trim());
+        final var direct = pom.getVersionLocation(pom.getAnyDependency("bump", "direct"));
+        assertEquals(pom.getComponent(), direct.getFile());
+        assertEquals("2.0.0", direct.getText().trim());
+        // declared nowhere in reach, the version cannot be bumped
+        assertNull(pom.getVersionLocation(pom.getAnyDependency("bump", "external")));
+    }
 }
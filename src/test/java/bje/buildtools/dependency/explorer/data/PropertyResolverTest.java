@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyResolverTest {
+
+    private static void addProperty(final Pom pom, final String name, final String value) {
+        pom.addPropertyLocation(name, new FiledRange(null, null, value));
+    }
+
+    @Test
+    void test() {
+        final var parent = new Pom(null, POMType.PARENT);
+        addProperty(parent, "a", "1");
+        addProperty(parent, "full", "${a}.${b}");
+        parent.fill(new Artifact("group", "parent", "4.0.0"));
+
+        final var pom = new Pom(null, parent, POMType.MAIN);
+        addProperty(pom, "b", "2");
+        addProperty(pom, "name", "a");
+        addProperty(pom, "loop", "${cycle}");
+        addProperty(pom, "cycle", "x-${loop}");
+        pom.fill(new Artifact(null, "child", "${parent.version}"));
+
+        assertEquals("4.0.0", pom.getRoot().getVersion());
+        assertEquals("group", pom.resolveProperty("${project.groupId}"));
+        assertEquals("1", pom.resolveProperty("${a}"));
+        assertEquals("1-2", pom.resolveProperty("${a}-${b}"));
+        assertEquals("1.2", pom.resolveProperty("${full}"));
+        assertEquals("1", pom.resolveProperty("${${name}}"));
+        assertEquals("child-4.0.0", pom.resolveProperty("${project.artifactId}-${project.version}"));
+        assertNull(pom.resolveProperty("${loop}"));
+        assertNull(pom.resolveProperty("${unknown}"));
+        assertNull(parent.resolveProperty("${full}"));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.Test;
+
+class VersionKeyTest {
+    // released versions of real artifacts, ascending as Maven 3.9 orders them
+    private static final String[][] CORPUS = { //
+            { "5.4.32.Final", "5.6.0.Beta1", "5.6.0.Beta2", "5.6.0.CR1", "5.6.0.Final", "5.6.1.Final", "6.0.0.Alpha9",
+                    "6.0.0.CR2", "6.0.0.Final" }, // hibernate-core
+            { "3.0.7.RELEASE", "3.1.0.M1", "3.1.0.M2", "3.1.0.RC1", "3.1.0.RELEASE", "3.1.1.RELEASE", "5.3.30",
+                    "6.0.0-M1", "6.0.0-RC1", "6.0.0" }, // spring-core
+            { "1.5.22.RELEASE", "2.0.0.M7", "2.0.0.RC1", "2.0.0.RELEASE", "2.0.1.RELEASE" }, // spring-boot
+            { "2.0.0.Beta1", "2.0.0.CR1", "2.0.0" }, // jakarta.el style
+            { "30.1-android", "30.1-jre", "31.0-jre", "31.0.1-jre", "32.1.3-jre", "33.0.0-jre" }, // guava
+            { "5.9.3", "5.10.0-M1", "5.10.0-RC1", "5.10.0", "5.10.1" }, // junit-jupiter
+            { "2.9.10", "2.9.10.1", "2.9.10.8", "2.15.0-rc1", "2.15.0-rc2", "2.15.0", "2.15.2", "2.16.0" }, // jackson
+            { "2.0-beta9", "2.0-rc1", "2.0", "2.0.1", "2.17.1" }, // log4j-core
+            { "4.1.9.Final", "4.1.99.Final", "4.1.100.Final", "5.0.0.Alpha2" }, // netty-all
+            { "1.0-SNAPSHOT", "1.0", "1.0.1-SNAPSHOT", "1.0.1" } };
+
+    private static final String[] QUALIFIERS = { "1-alpha2snapshot", "1-alpha2", "1-alpha-123", "1-beta-2",
+            "1-beta123", "1-m2", "1-m11", "1-rc", "1-cr2", "1-rc123", "1-SNAPSHOT", "1", "1-sp", "1-sp2", "1-sp123",
+            "1-abc", "1-def", "1-pom-1", "1-1-snapshot", "1-1", "1-2", "1-123" };
+
+    private static final String[] GENERATED = { "alpha", "Alpha", "a", "beta", "Beta", "b", "M", "milestone", "RC",
+            "rc", "CR", "SNAPSHOT", "GA", "Final", "RELEASE", "sp", "SP", "jre", "android", "incubating" };
+
+    private static final String[] NUMBERS = { "2.0", "2.0.a", "2-1", "2.0.2", "2.0.123", "2.1.0", "2.1-a", "2.1b",
+            "2.1-c", "2.1-1", "2.1.0.1", "2.2", "2.123", "11.a2", "11.a11", "11.b2", "11.b11", "11.m2", "11.m11", "11",
+            "11.a", "11b", "11c", "11m" };
+
+    private static void assertOrdered(final String[] someVersions) {
+        for (var i = 0; i < someVersions.length; i++) {
+            for (var j = i + 1; j < someVersions.length; j++) {
+                final var a = new Version(someVersions[i]);
+                final var b = new Version(someVersions[j]);
+                assertTrue(a.compareTo(b) < 0, someVersions[i] + " < " + someVersions[j]);
+                assertTrue(b.compareTo(a) > 0, someVersions[j] + " > " + someVersions[i]);
+            }
+        }
+    }
+
+    private static int compare(final String a, final String b) {
+        return Integer.signum(new ComparableVersion(a).compareTo(new ComparableVersion(b)));
+    }
+
+    // ComparableVersion is not transitive: a prefix p with a > p > b (or a < p < b) explains a key disagreeing
+    private static boolean isCycle(final String a, final String b, final int aSign) {
+        final List<String> prefixes = new ArrayList<>();
+        for (final String v : List.of(a, b)) {
+            for (var i = 1; i < v.length(); i++) {
+                prefixes.add(v.substring(0, i));
+                prefixes.add(v.substring(0, i + 1));
+            }
+        }
+        return prefixes.stream().anyMatch(p -> compare(a, p) == aSign && compare(p, b) == aSign);
+    }
+
+    private static void assertSame(final String a, final String b) {
+        assertEquals(0, new Version(a).compareTo(new Version(b)), a + " == " + b);
+    }
+
+    @Test
+    void testCorpus() {
+        for (final String[] versions : CORPUS) {
+            assertOrdered(versions);
+        }
+    }
+
+    @Test
+    void testEquality() {
+        assertSame("1", "1.0");
+        assertSame("1", "1.0.0");
+        assertSame("1", "1-0");
+        assertSame("1.0.0.Final", "1");
+        assertSame("1-ga", "1");
+        assertSame("1-release", "1");
+        assertSame("1cr", "1rc");
+        assertSame("1a1", "1-alpha-1");
+        assertSame("1.0.0-RC1", "1.0.0-rc-1");
+        assertSame("5.6.0.Final", "5.6");
+        assertSame("2.0.0.RELEASE", "2.0.0");
+        assertSame("3.1.0.RC1", "3.1-rc-1");
+    }
+
+    private static String generate(final Random aRandom) {
+        final var b = new StringBuilder().append(aRandom.nextInt(3));
+        for (var i = aRandom.nextInt(4); i > 0; i--) {
+            b.append('.').append(aRandom.nextInt(3) == 0 ? 10 + aRandom.nextInt(3) : aRandom.nextInt(3));
+        }
+        if (aRandom.nextBoolean()) {
+            b.append(".-".charAt(aRandom.nextInt(2))).append(GENERATED[aRandom.nextInt(GENERATED.length)]);
+            switch (aRandom.nextInt(4)) {
+            case 0:
+                b.append(aRandom.nextInt(3) + 1);
+                break;
+            case 1:
+                b.append(".-".charAt(aRandom.nextInt(2))).append(aRandom.nextInt(3) + 1);
+                break;
+            default:
+                break;
+            }
+        }
+        if (aRandom.nextInt(4) == 0) {
+            b.append("-SNAPSHOT");
+        }
+        return b.toString();
+    }
+
+    @Test
+    void testMaven() {
+        final List<String> versions = new ArrayList<>();
+        for (final String[] v : CORPUS) {
+            versions.addAll(List.of(v));
+        }
+        versions.addAll(List.of(QUALIFIERS));
+        versions.addAll(List.of(NUMBERS));
+        final var random = new Random(43);
+        for (var i = 0; i < 400; i++) {
+            versions.add(generate(random));
+        }
+        final var keys = versions.stream().map(VersionKey::encode).toList();
+        final var maven = versions.stream().map(ComparableVersion::new).toList();
+        var cycles = 0;
+        for (var i = 0; i < versions.size(); i++) {
+            for (var j = 0; j < versions.size(); j++) {
+                final var sign = Integer.signum(VersionKey.compare(keys.get(i), keys.get(j)));
+                if (sign != Integer.signum(maven.get(i).compareTo(maven.get(j)))) {
+                    assertTrue(isCycle(versions.get(i), versions.get(j), sign),
+                            versions.get(i) + " vs " + versions.get(j));
+                    cycles++;
+                }
+            }
+        }
+        // the cycles stay rare on realistic versions
+        assertTrue(cycles < versions.size() * versions.size() / 100, cycles + " disagreements");
+    }
+
+    @Test
+    void testOrdering() {
+        assertOrdered(QUALIFIERS);
+        assertOrdered(NUMBERS);
+        assertOrdered(new String[] { "RELEASE", "2.12.5", "2.13.0-M1", "2.13.0-RC1", "2.13.0", "2.13.0.1" });
+        assertOrdered(new String[] { "1", "1-Final1", "1-Final2" });
+        assertOrdered(new String[] { "3", "3.GA3" });
+        assertOrdered(new String[] { "2.0.0-RC1", "2.0.0.beta-22" });
+        assertOrdered(new String[] { "1.0.0.RC1", "1.0.0-rc.1" });
+        assertOrdered(new String[] { "2.0.0-Beta1", "2.0.0-beta.3" });
+    }
+
+    @Test
+    void testParts() {
+        final var v = new Version("2.13.0-M1");
+        assertEquals(2, v.major);
+        assertEquals(13, v.minor);
+        assertEquals(0, v.patch);
+        assertEquals("M1", v.snap);
+        assertEquals("Final", new Version("1.0.0.Final").other);
+        assertEquals("RELEASE", new Version("RELEASE").snap);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class VersionListTest {
+    private static List<Version> versions(final String... someVersions) {
+        final var list = new ArrayList<Version>();
+        for (final String s : someVersions) {
+            list.add(new Version(s));
+        }
+        return list;
+    }
+
+    @Test
+    void testLookup() {
+        final var list = VersionList.of(versions("2.0.0", "1.0.1", "1.2.0-SNAPSHOT", "1.2.0", "1.0.1", "3.0.1"));
+        assertEquals("[1.0.1, 1.2.0-SNAPSHOT, 1.2.0, 2.0.0, 3.0.1]", list.toString());
+        assertEquals("1.2.0-SNAPSHOT", list.ceiling(new Version("1.1")).toString());
+        assertEquals("1.2.0", list.ceiling(new Version("1.2.0-SNAPSHOT1")).toString());
+        assertEquals("2.0.0", list.ceiling(new Version("2")).toString());
+        assertNull(list.ceiling(new Version("3.0.2")));
+        assertTrue(list.contains(new Version("2")));
+        assertFalse(list.contains(new Version("2.1")));
+
+        final var tail = list.tailList(new Version("1.2.0"));
+        assertEquals("[1.2.0, 2.0.0, 3.0.1]", tail.toString());
+        assertEquals("1.2.0", tail.first().toString());
+        assertEquals("3.0.1", tail.last().toString());
+        assertSame(VersionList.EMPTY, list.tailList(new Version("4")));
+        assertSame(list, list.tailList(new Version("1")));
+    }
+
+    @Test
+    void testRandom() {
+        final var random = new Random(43);
+        final var set = new TreeSet<Version>();
+        for (var i = 0; i < 500; i++) {
+            set.add(new Version(random.nextInt(4) + "." + random.nextInt(12) + (random.nextBoolean() ? "-rc" : "")));
+        }
+        final var list = VersionList.of(set);
+        assertEquals(new ArrayList<>(set), list);
+        for (var i = 0; i < 200; i++) {
+            final var probe = new Version(random.nextInt(5) + "." + random.nextInt(14));
+            assertEquals(set.ceiling(probe), list.ceiling(probe));
+            assertEquals(new ArrayList<>(set.tailSet(probe)), list.tailList(probe));
+        }
+    }
+
+    @Test
+    void testShared() {
+        final var a = VersionList.of(versions("1.0", "1.1", "2.0"));
+        final var b = VersionList.of(versions("2.0", "1.1")).with(versions("1.0"));
+        assertSame(a, b);
+        assertSame(a, a.with(versions("1.1")));
+        assertSame(VersionList.EMPTY, VersionList.of(List.of()));
+    }
+}
@@ -26,6 +26,7 @@ package bje.buildtools.dependency.explorer.data;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
@@ -106,6 +107,19 @@ class VersionTest {
         assertNotEquals(v1.hashCode(), v7.hashCode());
 
         assertEquals("0.0.0", new Version((String) null).toString());
+
+        // equality follows the ordering
+        assertEquals(new Version("1.2"), new Version("1.2.0"));
+        assertEquals(new Version("1.2").hashCode(), new Version("1.2.0.Final").hashCode());
+    }
+
+    @Test
+    void testOf() {
+        final var v1 = Version.of("1.2.3");
+        assertSame(v1, Version.of("1.2.3"));
+        assertEquals(new Version("1.2.3"), v1);
+        assertEquals("1.2", Version.of("1.2").getText());
+        assertEquals("0.0.0", Version.of(null).toString());
     }
 
 }
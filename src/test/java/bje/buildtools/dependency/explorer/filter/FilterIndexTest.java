@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class FilterIndexTest {
+    private static final String[] GROUPS = { "org", "org.apache", "org.apache.commons", "com", "com.ibm", "net", "i",
+            "ii", "iri", "ib" };
+    private static final String[] PARTS = { "org", "org.a", "apache", "com", "ibm", "net", "ib", "i", "commons", "" };
+
+    private static String pattern(final Random aRandom) {
+        final var part = PARTS[aRandom.nextInt(PARTS.length)];
+        return switch (aRandom.nextInt(4)) {
+        case 0 -> "*" + part;
+        case 1 -> part + "*";
+        case 2 -> part + "*" + PARTS[aRandom.nextInt(PARTS.length)];
+        default -> part;
+        };
+    }
+
+    @Test
+    void testSameAsLinearScan() {
+        final var random = new Random(42);
+        final List<PatternFilter> filters = new ArrayList<>();
+        for (var i = 0; i < 200; i++) {
+            filters.add(PatternFilter.valueOf(pattern(random) + ":" + pattern(random) + ":" + pattern(random)));
+        }
+        final var index = new FilterIndex(filters);
+        for (var i = 0; i < 5000; i++) {
+            final var group = GROUPS[random.nextInt(GROUPS.length)];
+            final var artifact = PARTS[random.nextInt(PARTS.length)] + PARTS[random.nextInt(PARTS.length)];
+            final var version = PARTS[random.nextInt(PARTS.length)];
+            final var expected = filters.stream().anyMatch(f -> f.isInFilter(group, artifact, version));
+            assertEquals(expected, index.isInFilter(group, artifact, version), group + ":" + artifact + ":" + version);
+        }
+    }
+
+    @Test
+    void testTrie() {
+        final var index = new FilterIndex(List.of(PatternFilter.valueOf("org.apache*::"),
+                PatternFilter.valueOf("org:core:1.0"), PatternFilter.valueOf("*.ibm::")));
+        assertTrue(index.isInFilter("org.apache.commons", "lang", "3.0"));
+        assertTrue(index.isInFilter("org.apache", "lang", "3.0"));
+        assertFalse(index.isInFilter("org.apach", "lang", "3.0"));
+        assertTrue(index.isInFilter("org", "core", "1.0"));
+        assertFalse(index.isInFilter("org", "core", "1.1"));
+        assertFalse(index.isInFilter("org.a", "core", "1.0"));
+        assertTrue(index.isInFilter("com.ibm", "x", "1"));
+        assertFalse(index.isInFilter(null, "core", "1.0"));
+        assertTrue(new FilterIndex(List.of(PatternFilter.valueOf("::"))).isInFilter(null, null, null));
+    }
+}
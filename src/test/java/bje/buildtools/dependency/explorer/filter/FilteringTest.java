@@ -75,6 +75,16 @@ class FilteringTest {
         assertThrowsExactly(IllegalArgumentException.class, () -> new FilterList("org:da*te*:*"));
     }
 
+    @Test
+    void testGroupArtifact() {
+        final var fl = new FilterList("org:art:3.4.5,ib*:date:*,net::");
+        assertFalse(fl.isInFilter("org", "art"));
+        assertTrue(fl.isInFilter("ibm", "date"));
+        assertFalse(fl.isInFilter("ibm", "time"));
+        assertTrue(fl.isInFilter("net", "any"));
+        assertFalse(fl.isInFilter("com", "any"));
+    }
+
     @Test
     void testFilterAll() {
         final var fl = new FilterList("::");
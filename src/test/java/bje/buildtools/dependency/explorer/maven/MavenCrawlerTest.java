@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+import bje.buildtools.dependency.explorer.ExplorerSensor;
+import bje.buildtools.dependency.explorer.TestUtil;
+import bje.buildtools.dependency.explorer.data.POMType;
+import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.data.ProtoIssue;
+import bje.buildtools.dependency.explorer.data.Result;
+import bje.buildtools.dependency.explorer.filter.FilterList;
+import bje.buildtools.dependency.explorer.license.LicenseParser;
+import bje.buildtools.dependency.explorer.rules.ProjectParser;
+import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.InputFileUtils;
+
+class MavenCrawlerTest {
+    private static final String MAIN = """
+            <project>
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>reactor</groupId>
+              <artifactId>main</artifactId>
+              <version>1.0</version>
+              <packaging>pom</packaging>
+              <modules>
+                <module>a</module>
+                <module>b</module>
+              </modules>
+              <dependencyManagement>
+                <dependencies>
+                  <dependency>
+                    <groupId>org.example</groupId>
+                    <artifactId>managed</artifactId>
+                    <version>1.0</version>
+                  </dependency>
+                </dependencies>
+              </dependencyManagement>
+              <dependencies>
+                <dependency>
+                  <groupId>org.example</groupId>
+                  <artifactId>lib</artifactId>
+                  <version>1.0</version>
+                </dependency>
+              </dependencies>
+            </project>
+            """;
+
+    private static final String MODULE = """
+            <project>
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                <groupId>reactor</groupId>
+                <artifactId>main</artifactId>
+                <version>1.0</version>
+              </parent>
+              <artifactId>%s</artifactId>
+              <dependencies>
+                <dependency>
+                  <groupId>org.example</groupId>
+                  <artifactId>managed</artifactId>
+                </dependency>
+              </dependencies>
+            </project>
+            """;
+
+    private static final String TREE = """
+            reactor:%s:jar:1.0
+            +- org.example:lib:jar:1.0:compile
+            |  \\- org.example:util:jar:2.0:compile
+            \\- org.example:managed:jar:1.0:compile
+            """;
+
+    private static final String UPDATES = """
+            <DependencyUpdatesReport>
+              <dependencies>
+                <dependency>
+                  <groupId>org.example</groupId>
+                  <artifactId>lib</artifactId>
+                  <currentVersion>1.0</currentVersion>
+                  <minors>
+                    <minor>1.1</minor>
+                  </minors>
+                </dependency>
+                <dependency>
+                  <groupId>org.example</groupId>
+                  <artifactId>managed</artifactId>
+                  <currentVersion>1.0</currentVersion>
+                  <majors>
+                    <major>2.0</major>
+                  </majors>
+                </dependency>
+              </dependencies>
+            </DependencyUpdatesReport>
+            """;
+
+    private static String print(final List<Result> someResults) throws IOException {
+        final var sb = new StringBuilder();
+        for (final Result result : someResults) {
+            result.print(sb);
+            for (final ProtoIssue issue : result) {
+                sb.append(issue.getDescription()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    @TempDir
+    Path reactor;
+
+    @AfterEach
+    void clear() {
+        PomFactory.clear();
+    }
+
+    private void module(final String aName) throws IOException {
+        final var target = Files.createDirectories(reactor.resolve(aName + "/target"));
+        Files.writeString(reactor.resolve(aName + "/pom.xml"), MODULE.formatted(aName));
+        Files.writeString(target.resolve("tree.txt"), TREE.formatted(aName));
+        Files.writeString(target.resolve("dependency-updates-report.xml"), UPDATES);
+    }
+
+    @Test
+    void testMainUnchanged() throws IOException, SAXException, ParserConfigurationException {
+        Files.writeString(reactor.resolve("pom.xml"), MAIN);
+        module("a");
+        module("b");
+        // no maven here: the main pom keeps its declarations, the modules read the reports of their target
+        final var config = new ExplorationConfiguration(ExplorationConfiguration.ALL_PATTERN, new FilterList(null),
+                false, reactor.resolve("mvn").toString(), false);
+        final var conf = TestUtil.getConfiguration(new Properties());
+        ExplorerSensor.LICENSE_MODEL.set(LicenseParser.init(conf));
+        final var parser = new ProjectParser(conf);
+        final var main = new Pom[1];
+        final var reported = new StringBuilder();
+        final var count = MavenCrawler.compileFiles(p -> InputFileUtils.loadFile(reactor.resolve(p)), config, pom -> {
+            if (pom.getType() == POMType.MAIN) {
+                main[0] = pom;
+                reported.append(print(parser.analyze(pom)));
+            } else {
+                assertTrue(pom.getAnyDependency("org.example", "lib").getNextVersion() != null);
+            }
+        });
+        assertEquals(3, count);
+
+        // the modules annotated their own copies of lib and managed, the main pom reports as it did before them
+        final var lib = main[0].getAnyDependency("org.example", "lib");
+        assertNull(lib.getNextVersion());
+        assertEquals(1, lib.getParent().getChildren().size());
+        assertTrue(lib.getChildren().isEmpty());
+        assertNull(main[0].getAnyDependency("org.example", "managed").getParent());
+        assertEquals(reported.toString(), print(new ProjectParser(conf).analyze(main[0])));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+import bje.buildtools.dependency.explorer.data.POMType;
+import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.filter.FilterList;
+import bje.buildtools.dependency.explorer.util.Constants;
+import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
+import bje.buildtools.dependency.explorer.util.InputFileUtils;
+
+class PomFactoryTest {
+
+    @TempDir
+    Path local;
+
+    @AfterEach
+    void clear() {
+        PomFactory.clear();
+    }
+
+    private void install(final String anArtifactId) throws IOException {
+        final var directory = Files.createDirectories(local.resolve("repository/bom/" + anArtifactId + "/1.0"));
+        final var file = anArtifactId + "-1.0.pom";
+        Files.copy(Path.of("src/test/resources/bomProject", file), directory.resolve(file));
+    }
+
+    private Pom resolve() throws IOException, SAXException, ParserConfigurationException {
+        return resolve("pom.xml");
+    }
+
+    private Pom resolve(final String aFile) throws IOException, SAXException, ParserConfigurationException {
+        final var config = new ExplorationConfiguration(Pattern.compile(ExplorationConfiguration.REGEX_ALLOW_ALL),
+                new FilterList(null), false, Constants.UPDATE_MAVEN_EXECUTABLE_PATH_DEFAULT, true);
+        // a parent pom is not handed to maven, only its imports are looked up in the local repository
+        return PomFactory.resolve(InputFileUtils.loadFile("src/test/resources/bomProject/" + aFile),
+                new MavenSettings(null, null, local.toString()), config, null, POMType.PARENT);
+    }
+
+    @Test
+    void testCycle() throws IOException, SAXException, ParserConfigurationException {
+        install("cycle-a");
+        install("cycle-b");
+
+        // cycle-b imports cycle-a, which is being resolved, and itself: both imports are skipped
+        final var pom = resolve("cycle.xml");
+        assertEquals(1, pom.getImports().size());
+        final var a = pom.getImports().get(0);
+        assertEquals(1, a.getImports().size());
+        assertEquals(0, a.getImports().get(0).getImports().size());
+        assertEquals("3.0", pom.getAnyDependency("bom", "lib").getVersion());
+    }
+
+    @Test
+    void testImport() throws IOException, SAXException, ParserConfigurationException {
+        install("lib-bom");
+
+        // bom:missing-bom is not in the local repository and is skipped
+        final var pom = resolve();
+        assertEquals(1, pom.getImports().size());
+        final var bom = pom.getImports().get(0);
+        assertEquals(POMType.BOM, bom.getType());
+        assertEquals("2.5", pom.getAnyDependency("bom", "lib").getVersion());
+
+        assertSame(bom, resolve().getImports().get(0));
+        PomFactory.clear();
+        assertNotSame(bom, resolve().getImports().get(0));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+import bje.buildtools.dependency.explorer.util.InputFileUtils;
+
+class PomModelCacheTest {
+
+    private static void assertSameModel(final PomModel expected, final PomModel actual) {
+        assertEquals(expected.getArtifactId(), actual.getArtifactId());
+        assertEquals(expected.getParentVersion(), actual.getParentVersion());
+        assertEquals(expected.getModules(), actual.getModules());
+        assertEquals(expected.getProperties().size(), actual.getProperties().size());
+        assertEquals(expected.getDependencies().size(), actual.getDependencies().size());
+        for (var i = 0; i < expected.getDependencies().size(); ++i) {
+            final var e = expected.getDependencies().get(i);
+            final var a = actual.getDependencies().get(i);
+            assertEquals(e.getGroupId() + ":" + e.getArtifactId() + ":" + e.getVersion(),
+                    a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion());
+            assertEquals(e.getVersionRange(), a.getVersionRange());
+        }
+        assertEquals(expected.getPlugins().size(), actual.getPlugins().size());
+    }
+
+    @TempDir
+    Path cache;
+
+    @Test
+    void test() throws IOException, SAXException, ParserConfigurationException {
+        final var input = InputFileUtils.loadFile("src/test/resources/test-pom.xml");
+        final var parsed = PomParser.parse(input);
+
+        assertSameModel(parsed, PomModelCache.load(input, cache));
+        final var snapshot = cache.resolve(input.md5Hash() + ".pommodel");
+        assertTrue(Files.isRegularFile(snapshot));
+        assertSameModel(parsed, PomModelCache.load(input, cache));
+
+        final var bytes = Files.readAllBytes(snapshot);
+        bytes[7] = (byte) (bytes[7] + 1);
+        Files.write(snapshot, bytes);
+        assertSameModel(parsed, PomModelCache.load(input, cache));
+        assertEquals(1, Files.readAllBytes(snapshot)[7]);
+    }
+
+    @Test
+    void testCorruptLength() throws IOException, SAXException, ParserConfigurationException {
+        final var input = InputFileUtils.loadFile("src/test/resources/test-pom.xml");
+        final var parsed = PomParser.parse(input);
+        PomModelCache.load(input, cache);
+        final var snapshot = cache.resolve(input.md5Hash() + ".pommodel");
+
+        // the first string length follows the header and the parent flag
+        final var bytes = Files.readAllBytes(snapshot);
+        ByteBuffer.wrap(bytes).putInt(9, Integer.MAX_VALUE - 8);
+        Files.write(snapshot, bytes);
+        assertSameModel(parsed, PomModelCache.load(input, cache));
+        assertSameModel(parsed, PomModelCache.load(input, cache));
+    }
+
+    @Test
+    void testFailedWrite() throws IOException, SAXException, ParserConfigurationException {
+        final var input = InputFileUtils.loadFile("src/test/resources/test-pom.xml");
+        // a non empty directory in place of the snapshot makes the final move fail
+        final var snapshot = Files.createDirectories(cache.resolve(input.md5Hash() + ".pommodel"));
+        Files.createFile(snapshot.resolve("blocker"));
+
+        assertSameModel(PomParser.parse(input), PomModelCache.load(input, cache));
+        try (var files = Files.list(cache)) {
+            assertEquals(List.of(snapshot), files.toList());
+        }
+    }
+
+    @Test
+    void testLoadAll() throws IOException, SAXException, ParserConfigurationException {
+        final var input = InputFileUtils.loadFile("src/test/resources/test-pom.xml");
+        final var main = InputFileUtils.loadFile("src/test/resources/mainProject/pom.xml");
+        final var files = List.of(input, main, input);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (final Path directory : new Path[] { null, cache, cache }) {
+                final var models = PomModelCache.loadAll(files, directory, executor);
+                assertEquals(3, models.size());
+                assertSameModel(PomParser.parse(input), models.get(0));
+                assertSameModel(PomParser.parse(main), models.get(1));
+                assertSameModel(PomParser.parse(input), models.get(2));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(Files.isRegularFile(cache.resolve(main.md5Hash() + ".pommodel")));
+    }
+}
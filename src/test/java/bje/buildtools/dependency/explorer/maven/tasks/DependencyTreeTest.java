@@ -1,6 +1,8 @@
 package bje.buildtools.dependency.explorer.maven.tasks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -35,4 +37,26 @@ class DependencyTreeTest {
         assertEquals(54, pom.getMapDependencies().size());
     }
 
+    @Test
+    void testExclusion() throws IOException, URISyntaxException {
+        final var classLoader = DependencyTree.class.getClassLoader();
+        final var input = TestUtil.loadFile();
+        final var pom = new Pom(input, POMType.MAIN);
+        final var config = new ExplorationConfiguration(Pattern.compile(ExplorationConfiguration.REGEX_ALLOW_ALL),
+                new FilterList("org.apache.maven:maven-core:,org.slf4j:slf4j-api:1.0"), false,
+                Constants.UPDATE_MAVEN_EXECUTABLE_PATH_DEFAULT, true);
+        pom.updateRoot(new Dependency(pom, new Artifact("my", "test", "0.1.0")));
+        final var dfile = Path.of(classLoader.getResource("tree.txt").toURI());
+        assertTrue(DependencyTree.parse(dfile, pom, config));
+        assertEquals(14, pom.getRoot().getChildren().size());
+        final var dependencies = pom.getMapDependencies();
+        assertEquals(32, dependencies.size());
+        // the subtree of an excluded dependency goes with it, nothing is moved up to the root
+        assertFalse(dependencies.containsKey("org.apache.maven:maven-core"));
+        assertFalse(dependencies.containsKey("org.apache.maven:maven-settings"));
+        assertFalse(dependencies.containsKey("org.codehaus.plexus:plexus-cipher"));
+        assertSame(dependencies.get("com.google.code.gson:gson"),
+                dependencies.get("com.google.errorprone:error_prone_annotations").getParent());
+    }
+
 }
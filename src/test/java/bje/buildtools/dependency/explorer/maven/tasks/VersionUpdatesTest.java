@@ -33,8 +33,8 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -54,7 +54,7 @@ import bje.buildtools.dependency.explorer.util.ExplorationConfiguration;
 
 class VersionUpdatesTest {
 
-    private void addVerions(final NavigableSet<Version> versions, final List<String> majors) {
+    private void addVerions(final Set<Version> versions, final List<String> majors) {
         for (final String s : majors) {
             versions.add(new Version(s));
         }
@@ -25,11 +25,14 @@ package bje.buildtools.dependency.explorer.rules;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -44,6 +47,8 @@ import bje.buildtools.dependency.explorer.data.Artifact;
 import bje.buildtools.dependency.explorer.data.Pom;
 import bje.buildtools.dependency.explorer.data.DependencyType;
 import bje.buildtools.dependency.explorer.data.POMType;
+import bje.buildtools.dependency.explorer.data.ProtoIssue;
+import bje.buildtools.dependency.explorer.data.VersionBump;
 import bje.buildtools.dependency.explorer.license.LicenseParser;
 import bje.buildtools.dependency.explorer.maven.PomParser;
 import bje.buildtools.dependency.explorer.util.Constants;
@@ -156,4 +161,29 @@ class UpdatesAnalyzerTest {
                 """);
     }
 
+    @Test
+    void testBump() throws IOException, SAXException, ParserConfigurationException {
+        final var pom = TestUtil.loadBumpModule();
+        for (final String artifactId : Arrays.asList("lib", "direct", "external")) {
+            final var def = pom.getAnyDependency("bump", artifactId);
+            def.addVersions(Arrays.asList("2.1.0", "3.0.0"));
+            pom.getRoot().addDependency(def);
+        }
+        pom.updateRoot();
+        final Map<String, VersionBump> bumps = new HashMap<>();
+        for (final ProtoIssue issue : new UpdatesAnalyzer(TestUtil.getConfiguration(new Properties())).analyze(pom)) {
+            bumps.put(issue.getGA(), issue.getBump());
+        }
+        // the property is bumped where it is declared, in the parent
+        final var lib = bumps.get("bump:lib");
+        assertEquals(pom.getParent().getComponent(), lib.location().getFile());
+        assertEquals("1.0.0", lib.location().getText().trim());
+        assertEquals("3.0.0", lib.version());
+        final var direct = bumps.get("bump:direct");
+        assertEquals(pom.getComponent(), direct.location().getFile());
+        assertEquals("3.0.0", direct.version());
+        // the property is declared nowhere in reach, no bump
+        assertTrue(bumps.containsKey("bump:external"));
+        assertNull(bumps.get("bump:external"));
+    }
 }
@@ -25,14 +25,18 @@ package bje.buildtools.dependency.explorer.rules;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Properties;
 
+import javax.xml.parsers.ParserConfigurationException;
+
 import org.junit.jupiter.api.Test;
 import org.sonar.api.batch.rule.Severity;
+import org.xml.sax.SAXException;
 
 import bje.buildtools.dependency.explorer.TestUtil;
 import bje.buildtools.dependency.explorer.data.Artifact;
@@ -106,4 +110,22 @@ class VersionsAnalyzerTest {
                         """);
     }
 
+    @Test
+    void testBump() throws IOException, SAXException, ParserConfigurationException {
+        final var pom = TestUtil.loadBumpModule();
+        pom.addVersionIncompatibility(new Artifact("bump", "lib", null), Arrays.asList("1.0.0", "1.2.0"));
+        pom.addVersionIncompatibility(new Artifact("bump", "direct", null), Arrays.asList("2.0.0", "2.0.3"));
+        pom.addVersionIncompatibility(new Artifact("bump", "external", null), Arrays.asList("1.0.0", "1.1.0"));
+        final var it = new VersionsAnalyzer(TestUtil.getConfiguration(new Properties())).analyze(pom).iterator();
+
+        // aligned on the highest version in use, the property of the parent for lib
+        final var direct = it.next().getBump();
+        assertEquals(pom.getComponent(), direct.location().getFile());
+        assertEquals("2.0.3", direct.version());
+        assertNull(it.next().getBump());
+        final var lib = it.next().getBump();
+        assertEquals(pom.getParent().getComponent(), lib.location().getFile());
+        assertEquals("1.2.0", lib.version());
+        assertFalse(it.hasNext());
+    }
 }
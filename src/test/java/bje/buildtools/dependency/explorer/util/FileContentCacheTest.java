@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileContentCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void test() throws IOException, NoSuchAlgorithmException {
+        final var file = dir.resolve("report.txt");
+        Files.writeString(file, "first\r\nsecond\rthird\n\nlast");
+        final var content = FileContentCache.get(file);
+        assertSame(content, FileContentCache.get(file));
+
+        assertEquals(5, content.lines());
+        assertEquals(Files.readAllLines(file), content.readLines());
+        assertEquals(Files.readString(file), content.text());
+        try (final var is = content.inputStream()) {
+            assertArrayEquals(Files.readAllBytes(file), is.readAllBytes());
+        }
+        final var digest = MessageDigest.getInstance("MD5").digest(Files.readAllBytes(file));
+        assertEquals(Utils.bytesToHex(digest), content.md5Hash());
+
+        FileContentCache.release(file);
+        assertNotSame(content, FileContentCache.get(file));
+        FileContentCache.clear();
+    }
+}
@@ -106,4 +106,34 @@ class JsonReportGeneratorTest {
         assertTrue(JSONEqualityUtil.equality(new JSONArray(print), arr));
 
     }
+
+    @Test
+    void testSpill() throws IOException {
+        final List<JSONArray> outputs = new ArrayList<>();
+        for (final var generator : Arrays.asList(new JsonReportGenerator(), new JsonReportGenerator(0))) {
+            final List<Result> results = new ArrayList<>();
+            for (final String name : Arrays.asList("module-b", "module-a")) {
+                final var pom = new Pom(null, POMType.MODULE);
+                pom.fill(new Artifact("group", name, "1.0.0"));
+                final var def = pom.addDependency(new Artifact("group", "lib", "2.0.0"), Arrays.asList("2.1.0"),
+                        DependencyType.DEPENDENCY);
+                def.addDependency(new Dependency(pom, new Artifact("group", "sub", "1.0.5")));
+                pom.getRoot().addDependency(def);
+                results.add(new AbstractModifiableResult(Collections.emptySet(), pom) {
+
+                    @Override
+                    public void print(final Appendable out) throws IOException {
+                        // nothing
+                    }
+                });
+            }
+            generator.append(results);
+            final var arr = new JSONArray();
+            for (final JSONObject o : generator.generate()) {
+                arr.put(o);
+            }
+            outputs.add(arr);
+        }
+        assertTrue(JSONEqualityUtil.equality(outputs.get(0), outputs.get(1)));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.buildtools.dependency.explorer.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.junit.jupiter.api.Test;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.TextRange;
+import org.sonar.api.batch.rule.Severity;
+import org.xml.sax.SAXException;
+
+import bje.buildtools.dependency.explorer.TestUtil;
+import bje.buildtools.dependency.explorer.data.AbstractModifiableResult;
+import bje.buildtools.dependency.explorer.data.Pom;
+import bje.buildtools.dependency.explorer.data.ProtoIssue;
+import bje.buildtools.dependency.explorer.data.VersionBump;
+
+class PatchGeneratorTest {
+    private static final Path BASE = Path.of("src/test/resources/bumpProject").toAbsolutePath();
+    private static final String MODULE_DIFF = """
+            --- a/module/pom.xml
+            +++ b/module/pom.xml
+            @@ -17,7 +17,7 @@
+             \t\t<dependency>
+             \t\t\t<groupId>bump</groupId>
+             \t\t\t<artifactId>direct</artifactId>
+            -\t\t\t<version>2.0.0</version>
+            +\t\t\t<version>2.1.0</version>
+             \t\t</dependency>
+             \t\t<dependency>
+             \t\t\t<groupId>bump</groupId>
+            """;
+
+    private static ProtoIssue issue(final Pom pom, final String artifactId, final String version) {
+        final var bump = VersionBump.of(pom.getVersionLocation(pom.getAnyDependency("bump", artifactId)), version);
+        return new ProtoIssue() {
+
+            @Override
+            public VersionBump getBump() {
+                return bump;
+            }
+
+            @Override
+            public InputFile getComponent() {
+                return pom.getComponent();
+            }
+
+            @Override
+            public String getDescription() {
+                return artifactId + " " + version;
+            }
+
+            @Override
+            public String getGA() {
+                return "bump:" + artifactId;
+            }
+
+            @Override
+            public String getModuleName() {
+                return pom.getName();
+            }
+
+            @Override
+            public String getRuleKey() {
+                return Constants.UPDATE_RULE_KEY;
+            }
+
+            @Override
+            public Severity getSeverity() {
+                return Severity.MINOR;
+            }
+
+            @Override
+            public TextRange getTextRange() {
+                return null;
+            }
+        };
+    }
+
+    private static PatchGenerator patch() throws IOException, SAXException, ParserConfigurationException {
+        final var pom = TestUtil.loadBumpModule();
+        final Set<ProtoIssue> issues = new TreeSet<>(Arrays.asList(issue(pom, "lib", "1.2.0"),
+                issue(pom, "direct", "2.1.0"), issue(pom, "lib", "1.1.0"), issue(pom, "external", "1.0.0")));
+        final var patch = new PatchGenerator();
+        patch.append(List.of(new AbstractModifiableResult(issues, pom) {
+
+            @Override
+            public void print(final Appendable out) throws IOException {
+                // nothing
+            }
+        }));
+        return patch;
+    }
+
+    @Test
+    void test() throws IOException, SAXException, ParserConfigurationException {
+        final var sb = new StringBuilder();
+        patch().write(BASE, sb);
+        // the highest bump wins, the property is bumped in the parent and external has no bump
+        assertEquals(MODULE_DIFF + """
+                --- a/pom.xml
+                +++ b/pom.xml
+                @@ -7,7 +7,7 @@
+                 \t<version>1.0.0</version>
+                 \t<packaging>pom</packaging>
+                 \t<properties>
+                -\t\t<lib.version>1.0.0</lib.version>
+                +\t\t<lib.version>1.2.0</lib.version>
+                 \t</properties>
+                 \t<modules>
+                 \t\t<module>module</module>
+                """, sb.toString());
+    }
+
+    @Test
+    void testOutside() throws IOException, SAXException, ParserConfigurationException {
+        final var sb = new StringBuilder();
+        patch().write(BASE.resolve("module"), sb);
+        // the parent is out of the base directory, it is left alone
+        assertEquals(MODULE_DIFF.replace("/module/", "/"), sb.toString());
+    }
+}
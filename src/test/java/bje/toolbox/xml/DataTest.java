@@ -24,6 +24,7 @@
 package bje.toolbox.xml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,4 +44,28 @@ class DataTest {
         assertEquals("4:10 - 5:12", c.getRange().toString());
     }
 
+    @Test
+    void testEquality() {
+        final var locations = new Locations();
+        final var first = locations.add(4, 10, 4, 18);
+        final var a = new Data("text", locations, first);
+        final var b = new Data("text", locations, locations.add(4, 10, 4, 18));
+        final var c = new Data("text", new Range(4, 10, 4, 18));
+        assertEquals(a, new Data("text", locations, first));
+        assertEquals(a, b);
+        assertEquals(a, c);
+        assertEquals(c, a);
+        assertEquals(a.hashCode(), c.hashCode());
+        assertNotEquals(a, new Data("text", locations, locations.add(4, 10, 4, 19)));
+        assertNotEquals(a, new Data("other", locations, first));
+        assertNotEquals(a, new Data("text", null));
+        assertEquals(new Data("text", null), new Data("text", null));
+
+        // building the range releases the arena without changing the identity of the data
+        final var hash = a.hashCode();
+        assertEquals(new Range(4, 10, 4, 18), a.getRange());
+        assertEquals(hash, a.hashCode());
+        assertEquals(a, b);
+        assertEquals(new Range(4, 10, 4, 18), a.merge(b).getRange());
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class LocationsTest {
+
+    @Test
+    void test() {
+        final var locations = new Locations();
+        var last = Locations.NONE;
+        for (var i = 1; i <= 100; ++i) {
+            last = locations.add(i, i + 1, i + 2, i + 3);
+        }
+        assertEquals(100, locations.size());
+        assertEquals(new Range(100, 101, 102, 103), locations.get(last));
+        assertEquals(1, locations.getLineStart(0));
+        assertEquals(2, locations.getPositionStart(0));
+        assertEquals(3, locations.getLineStop(0));
+        assertEquals(4, locations.getPositionStop(0));
+
+        final var a = new Data("text", locations, locations.add(4, 10, 4, 8));
+        final var b = new Data(" follow up", locations, locations.add(5, 2, 5, 12));
+        final var c = a.merge(b);
+        assertEquals("text follow up", c.getText());
+        assertEquals(new Range(4, 10, 5, 12), c.getRange());
+        assertEquals(103, locations.size());
+
+        final var d = c.merge(new Data("!", new Range(6, 1, 6, 2)));
+        assertEquals(new Range(4, 10, 6, 2), d.getRange());
+
+        final var none = new Data("none", locations, Locations.NONE);
+        assertFalse(none.hasRange());
+        assertNull(none.getRange());
+        assertNull(none.merge(c).getRange());
+    }
+}
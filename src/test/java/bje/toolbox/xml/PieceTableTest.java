@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+
+class PieceTableTest {
+    private static String resource(final String aName) throws IOException {
+        try (final var in = PieceTableTest.class.getClassLoader().getResourceAsStream(aName)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void testDiff() throws IOException {
+        final var table = new PieceTable("a\nb\nc\nd\ne\nf\ng\nh\ni\nj\nk\nl\n");
+        assertTrue(table.replace(new Range(2, 1, 2, 2), "B"));
+        assertTrue(table.replace(new Range(11, 1, 11, 2), "K"));
+        final var sb = new StringBuilder();
+        table.diff("a/pom.xml", "b/pom.xml", 1, sb);
+        assertEquals("""
+                --- a/pom.xml
+                +++ b/pom.xml
+                @@ -1,3 +1,3 @@
+                 a
+                -b
+                +B
+                 c
+                @@ -10,3 +10,3 @@
+                 j
+                -k
+                +K
+                 l
+                """, sb.toString());
+    }
+
+    @Test
+    void testEdition() throws IOException, URISyntaxException {
+        final Map<String, String> updateMap = new HashMap<>();
+        updateMap.put("4.5.6", "1.0.0");
+        updateMap.put("4.5.7", "1.1.0");
+        updateMap.put("4.5.8", "2.3.4");
+        updateMap.put("4.5.9", "2.1.0");
+        final List<Data> list = new ArrayList<>();
+        final var handlerA = new XMLMappingHandler(map -> {
+            for (final Entry<String, Data> entry : map.entrySet()) {
+                list.add(entry.getValue());
+            }
+        }, "/project/properties");
+        final var handlerB = new XMLMappingHandler(map -> list.add(new Data(map.get(""), map.getRange(""))),
+                "/project/versions/version");
+        final var source = Path.of(getClass().getClassLoader().getResource("toolbox/xml/range/range.txt").toURI());
+        SAXUtils.parse(source, handlerA, handlerB);
+        final var table = new PieceTable(Files.readString(source));
+        for (final Data data : list) {
+            assertTrue(table.replace(data.getRange(), updateMap.get(data.getText().trim())));
+        }
+        assertTrue(table.isModified());
+        assertEquals(resource("toolbox/xml/range/result.txt").strip(), table.toString().strip());
+        assertFalse(table.replace(list.get(0).getRange(), "9.9.9"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ProjectionTest {
+    private static final String XML = """
+            <project>
+              <plugin id="p1" kind="build">
+                <artifactId>a</artifactId>
+                <version>1.0</version>
+                <configuration><skip>true</skip></configuration>
+                <executions><execution><id>e</id></execution></executions>
+              </plugin>
+            </project>
+            """;
+
+    private static List<XMLMap> parse(final Projection projection) {
+        final List<XMLMap> maps = new ArrayList<>();
+        SAXUtils.parse(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)),
+                new XMLMappingHandler(maps::add, "/project/plugin", projection));
+        return maps;
+    }
+
+    @Test
+    void test() {
+        var map = parse(Projection.ALL).get(0);
+        assertEquals(6, map.entrySet().size());
+        assertEquals("true", map.get("/configuration/skip"));
+        final var range = map.getRange("/version");
+        assertNotNull(range);
+
+        map = parse(Projection.of("/artifactId", "/version", ":id")).get(0);
+        assertEquals(3, map.entrySet().size());
+        assertEquals("a", map.get("/artifactId"));
+        assertEquals("p1", map.get(":id"));
+        assertNull(map.get(":kind"));
+        assertNull(map.get("/configuration/skip"));
+        assertEquals(range, map.getRange("/version"));
+
+        map = parse(Projection.withoutRanges("/executions")).get(0);
+        assertEquals(1, map.entrySet().size());
+        assertEquals("e", map.get("/executions/execution/id"));
+        assertNull(map.getRange("/executions/execution/id"));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import bje.toolbox.xml.SAXUtils.DocumentHandler;
+
+class SAXUtilsTest {
+
+    @Test
+    void testParseAll() {
+        final List<String> documents = new ArrayList<>();
+        for (var i = 0; i < 50; ++i) {
+            documents.add(i == 7 ? "<project><name>broken</project>" : "<project><name>n" + i + "</name></project>");
+        }
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var results = SAXUtils.parseAll(documents,
+                    d -> new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8)), () -> {
+                        final List<String> names = new ArrayList<>();
+                        return new DocumentHandler<>(new XMLMappingHandler(m -> names.add(m.get("")),
+                                "/project/name"), () -> names);
+                    }, executor);
+            assertEquals(documents.size(), results.size());
+            for (var i = 0; i < results.size(); ++i) {
+                final var result = results.get(i);
+                if (i == 7) {
+                    assertFalse(result.isValid());
+                    assertNull(result.getValue());
+                    assertTrue(result.getError().getMessage().contains("broken"));
+                } else {
+                    assertTrue(result.isValid());
+                    assertEquals(List.of("n" + i), result.getValue());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
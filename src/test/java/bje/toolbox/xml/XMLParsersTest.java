@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import bje.toolbox.xml.XMLParsers.Engine;
+
+class XMLParsersTest {
+    private static final Path POM = Path.of("src/test/resources/test-pom.xml");
+
+    private static List<String> read() {
+        final List<String> result = new ArrayList<>();
+        final XMLMapper saver = m -> m.entrySet().forEach(e -> result
+                .add(e.getKey() + '=' + e.getValue().getText() + '@' + e.getValue().getRange()));
+        SAXUtils.parse(POM, new XMLMappingHandler(saver, "/project/dependencies/dependency"),
+                new XMLMappingHandler(saver, "/project/parent"), new XMLMappingHandler(saver, "/project/properties"));
+        return result;
+    }
+
+    @AfterEach
+    void reset() {
+        XMLParsers.setEngine(Engine.SAX);
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        for (final var engine : Engine.values()) {
+            XMLParsers.setEngine(engine);
+            final var expected = read();
+            final var executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<List<String>>> futures = new ArrayList<>();
+                for (var i = 0; i < 16; ++i) {
+                    futures.add(executor.submit(XMLParsersTest::read));
+                }
+                for (final var future : futures) {
+                    assertEquals(expected, future.get(), engine.name());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testDoctype() {
+        final var xml = """
+                <?xml version="1.0"?>
+                <!DOCTYPE project [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <project><name>&xxe;</name></project>
+                """.getBytes(StandardCharsets.UTF_8);
+        for (final var engine : Engine.values()) {
+            XMLParsers.setEngine(engine);
+            assertThrows(SAXReadingException.class, () -> SAXUtils.parse(new ByteArrayInputStream(xml),
+                    new XMLMappingHandler(m -> {}, "/project")));
+        }
+    }
+
+    @Test
+    void testSameResult() {
+        final var sax = read();
+        assertFalse(sax.isEmpty());
+        XMLParsers.setEngine(Engine.STAX);
+        assertEquals(sax, read());
+    }
+}
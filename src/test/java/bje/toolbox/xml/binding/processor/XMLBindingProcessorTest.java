@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2023-2025 errorscript@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package bje.toolbox.xml.binding.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.helpers.DefaultHandler;
+
+import bje.toolbox.xml.XMLParsers;
+import bje.toolbox.xml.binding.BindingHandler;
+
+class XMLBindingProcessorTest {
+    private static final String PLUGIN = """
+            package demo;
+
+            import java.util.List;
+
+            import bje.toolbox.xml.Range;
+            import bje.toolbox.xml.binding.XMLBinding;
+            import bje.toolbox.xml.binding.XMLPath;
+
+            public class Plugin {
+                public record Execution(@XMLPath("/id") String id, @XMLPath("/goals/goal") List<String> goals) {
+                }
+
+                @XMLBinding("/project/plugin")
+                public record Bound(@XMLPath(":id") String id, @XMLPath("/artifactId") String artifactId,
+                        @XMLPath("/version") String version, @XMLPath("/version") Range versionRange,
+                        @XMLPath("/executions/execution") List<Execution> executions) {
+                }
+            }
+            """;
+
+    private static final String XML = """
+            <project>
+              <plugin id="p1">
+                <artifactId>a</artifactId>
+                <version>1.0</version>
+                <version>2.0</version>
+                <executions>
+                  <execution><id>e1</id><goals><goal>g1</goal><goal>g2</goal></goals></execution>
+                  <execution><id>e2</id></execution>
+                </executions>
+                <configuration><version>ignored</version></configuration>
+              </plugin>
+            </project>
+            """;
+
+    @TempDir
+    Path dir;
+
+    private DiagnosticCollector<JavaFileObject> compile(final String source) throws Exception {
+        final var file = dir.resolve("src/demo/Plugin.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        final var classes = Path.of(BindingHandler.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (final var manager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final var task = compiler.getTask(null, manager, diagnostics,
+                    // -Xlint:processing reports the annotations no processor claims
+                    List.of("-Xlint:processing", "-d", dir.toString(), "-classpath",
+                            classes.toString() + File.pathSeparator + dir),
+                    null, manager.getJavaFileObjects(file.toFile()));
+            task.setProcessors(List.of(new XMLBindingProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    @Test
+    void testGenerated() throws Exception {
+        final var diagnostics = compile(PLUGIN);
+        // only the @Generated of the generated sources is left unclaimed
+        assertTrue(diagnostics.getDiagnostics().stream().allMatch(
+                d -> d.getKind() != Diagnostic.Kind.ERROR && d.getMessage(null).contains(".Generated")),
+                diagnostics.getDiagnostics().toString());
+        final List<Object> result = new ArrayList<>();
+        try (final var loader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final var binding = loader.loadClass("demo.BoundBinding");
+            final Consumer<Object> saver = result::add;
+            final var handler = (DefaultHandler) binding.getConstructor(Consumer.class).newInstance(saver);
+            XMLParsers.parse(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)), handler);
+            assertEquals(1, result.size());
+            assertEquals("Bound[id=p1, artifactId=a, version=1.0, versionRange=4:14 - 4:17, executions=["
+                    + "Execution[id=e1, goals=[g1, g2]], Execution[id=e2, goals=[]]]]", result.get(0).toString());
+        }
+    }
+
+    @Test
+    void testInvalid() throws Exception {
+        var diagnostics = compile(PLUGIN.replace("\"/artifactId\"", "\"/artifact Id\""));
+        assertFalse(diagnostics.getDiagnostics().isEmpty());
+        assertTrue(diagnostics.getDiagnostics().get(0).getMessage(null).contains("invalid path '/artifact Id'"));
+
+        diagnostics = compile(PLUGIN.replace("String artifactId", "int artifactId"));
+        assertTrue(diagnostics.getDiagnostics().get(0).getMessage(null).contains("unsupported type int"));
+
+        diagnostics = compile(PLUGIN.replace("\"/goals/goal\"", "\"/goals/goal:name\""));
+        assertTrue(diagnostics.getDiagnostics().get(0).getMessage(null).contains("cannot be bound to a list"));
+
+        diagnostics = compile(PLUGIN.replace("\"/artifactId\"", "\"/executions/execution/id\""));
+        assertTrue(diagnostics.getDiagnostics().get(0).getMessage(null).contains("nested list"));
+    }
+}